@@ -0,0 +1,141 @@
+package com.obstacleavoid.benchmarks;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Loads a BitmapFont without a GL context so GlyphLayout can be measured. Only the glyph metrics are real, the
+ * texture is an empty placeholder and every GL / Graphics call does nothing.
+ */
+final class BenchmarkFonts
+{
+    private static final int PAGE_SIZE = 512; // scaleW / scaleH of the fonts in assets/ui/fonts
+
+    private BenchmarkFonts(){}
+
+    static BitmapFont load( String path )
+    {
+        installNoOpGraphics( );
+
+        FileHandle fontFile = new FileHandle( new File( path ) );
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData( fontFile, false );
+        TextureRegion page = new TextureRegion( new Texture( new EmptyTextureData( ) ) );
+        return new BitmapFont( data, page, true );
+    }
+
+    private static void installNoOpGraphics()
+    {
+        if ( Gdx.gl == null ) {
+            Gdx.gl = Gdx.gl20 = noOp( GL20.class );
+        }
+        if ( Gdx.graphics == null ) {
+            Gdx.graphics = noOp( Graphics.class );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static < T > T noOp( Class< T > type )
+    {
+        InvocationHandler handler = new InvocationHandler( )
+        {
+            @Override
+            public Object invoke( Object proxy, Method method, Object[] args )
+            {
+                Class< ? > returnType = method.getReturnType( );
+                if ( returnType == boolean.class ) {
+                    return false;
+                } else if ( returnType == int.class ) {
+                    return 0;
+                } else if ( returnType == long.class ) {
+                    return 0L;
+                } else if ( returnType == float.class ) {
+                    return 0f;
+                } else if ( returnType == double.class ) {
+                    return 0d;
+                }
+                return null;
+            }
+        };
+        return (T) Proxy.newProxyInstance( type.getClassLoader( ), new Class< ? >[]{ type }, handler );
+    }
+
+    private static class EmptyTextureData implements TextureData
+    {
+        @Override
+        public TextureDataType getType()
+        {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared()
+        {
+            return true;
+        }
+
+        @Override
+        public void prepare()
+        {
+        }
+
+        @Override
+        public Pixmap consumePixmap()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean disposePixmap()
+        {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData( int target )
+        {
+        }
+
+        @Override
+        public int getWidth()
+        {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public int getHeight()
+        {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public Pixmap.Format getFormat()
+        {
+            return Pixmap.Format.RGBA8888;
+        }
+
+        @Override
+        public boolean useMipMaps()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isManaged()
+        {
+            // managed textures are registered against Gdx.app, which does not exist here
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.obstacleavoid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+
+// One simulation tick (collision, score, spawn, removal, movement) as GameScreen.update runs it.
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class GameSimulationBenchmark
+{
+    private static final float FRAME_DELTA = 1f / GameConfig.SIMULATION_TICKS_PER_SECOND;
+    private static final int SETTLE_STEPS = 120; // long enough for the first obstacles to reach the bottom
+    private static final long SEED = 42L; // fixed, so every run and every fork steps the same games
+
+    @Param( { "EASY", "MEDIUM", "HARD" } )
+    public GameDifficulty difficulty;
+
+    private GameSimulation simulation;
+    private final InputState input = new InputState( );
+    private int steps;
+
+    @Setup
+    public void setUp()
+    {
+        simulation = new GameSimulation( difficulty, SEED );
+        for ( int i = 0; i < SETTLE_STEPS; i++ ) {
+            simulation.step( FRAME_DELTA, input );
+        }
+    }
+
+    @Benchmark
+    public boolean step()
+    {
+        // sweep side to side so the player is not parked in one column
+        steps++;
+        input.set( ( steps & 64 ) == 0, ( steps & 64 ) != 0 );
+
+        // every hit clears the obstacles anyway, so starting over empty is what the game does too
+        if ( simulation.isGameOver( ) ) {
+            simulation = new GameSimulation( difficulty, SEED );
+        }
+        return simulation.step( FRAME_DELTA, input );
+    }
+}
@@ -0,0 +1,80 @@
+package com.obstacleavoid.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.obstacleavoid.assets.AssetPaths;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.screen.game.HudText;
+
+// The text side of GameScreen.renderUi, the font.draw calls need GL and are left out. concatAndLayout is how renderUi
+// used to do it, the HudText ones are what it does now. Run with -prof gc to see the allocation rate of each.
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class HudTextBenchmark
+{
+    private BitmapFont font;
+    private final GlyphLayout layout = new GlyphLayout( );
+    private HudText livesText;
+    private HudText scoreText;
+    private int lives;
+    private int score;
+
+    @Setup
+    public void setUp()
+    {
+        font = BenchmarkFonts.load( AssetPaths.UI_FONT_32 );
+        livesText = new HudText( font, "LIVES " );
+        scoreText = new HudText( font, "SCORE " );
+        lives = GameConfig.PLAYER_INITIAL_LIVES;
+    }
+
+    @Benchmark
+    public float concatAndLayout()
+    {
+        // a new score every frame is the worst case, in game it changes every PLAYER_SCORES_AFTER
+        score++;
+
+        String livesText = "LIVES " + lives;
+        layout.setText( font, livesText );
+        float livesHeight = layout.height;
+
+        String scoreText = "SCORE " + score;
+        layout.setText( font, scoreText );
+        return livesHeight + layout.width;
+    }
+
+    @Benchmark
+    public float hudTextScoreChanging()
+    {
+        score++;
+        livesText.setValue( lives );
+        scoreText.setValue( score );
+        return livesText.getHeight( ) + scoreText.getWidth( );
+    }
+
+    @Benchmark
+    public float hudTextUnchanged()
+    {
+        // the usual frame, nothing to lay out
+        livesText.setValue( lives );
+        scoreText.setValue( score );
+        return livesText.getHeight( ) + scoreText.getWidth( );
+    }
+}
@@ -0,0 +1,99 @@
+package com.obstacleavoid.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.BruteForceBroadphase;
+import com.obstacleavoid.simulation.CollisionBroadphase;
+import com.obstacleavoid.simulation.ObstacleStore;
+import com.obstacleavoid.simulation.SpatialHashBroadphase;
+
+// Spawning, movement, passed obstacle removal and the player hit test against a field of obstacleCount obstacles.
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ObstacleStoreBenchmark
+{
+    private static final float TICK = 1f / GameConfig.SIMULATION_TICKS_PER_SECOND;
+    private static final float MIN_Y = -GameConfig.OBSTACLE_SIZE;
+    private static final float MAX_X = GameConfig.WORLD_WIDTH - GameConfig.OBSTACLE_SIZE;
+    private static final float PLAYER_CENTRE_X = GameConfig.WORLD_CENTER_X;
+    private static final float PLAYER_CENTRE_Y = GameConfig.PLAYER_SIZE;
+
+    @Param( { "100", "1000", "10000" } )
+    public int obstacleCount;
+
+    @Param( { "EASY", "MEDIUM", "HARD" } )
+    public GameDifficulty difficulty;
+
+    @Param( { "spatialHash", "bruteForce" } )
+    public String broadphase;
+
+    private ObstacleStore store;
+    private final Random random = new Random( 42 );
+
+    @Setup
+    public void setUp()
+    {
+        store = new ObstacleStore( obstacleCount, createBroadphase( ) );
+        spawn( );
+    }
+
+    @Benchmark
+    public int spawn()
+    {
+        store.clear( );
+        // spread evenly over the whole screen height, oldest (lowest) first, as if they had been falling for a while
+        float spacing = ( GameConfig.WORLD_HEIGHT - MIN_Y ) / obstacleCount;
+        for ( int i = 0; i < obstacleCount; i++ ) {
+            float y = MIN_Y + ( i + 0.5f ) * spacing;
+            store.add( random.nextFloat( ) * MAX_X, y, difficulty.getObjectSpeed( ),
+                    GameConfig.OBSTACLE_BOUNDS_RADIUS );
+        }
+        return store.size( );
+    }
+
+    @Benchmark
+    public int moveRemoveRespawn()
+    {
+        store.moveAll( TICK );
+        int removed = store.removeBelow( MIN_Y );
+        // keep the count steady
+        for ( int i = 0; i < removed; i++ ) {
+            store.add( random.nextFloat( ) * MAX_X, GameConfig.WORLD_HEIGHT, difficulty.getObjectSpeed( ),
+                    GameConfig.OBSTACLE_BOUNDS_RADIUS );
+        }
+        return removed;
+    }
+
+    @Benchmark
+    public int playerHitTest()
+    {
+        return store.findOverlapping( PLAYER_CENTRE_X, PLAYER_CENTRE_Y, GameConfig.PLAYER_BOUNDS_RADIUS );
+    }
+
+    private CollisionBroadphase createBroadphase()
+    {
+        if ( "bruteForce".equals( broadphase ) ) {
+            return new BruteForceBroadphase( );
+        }
+        return new SpatialHashBroadphase( );
+    }
+}
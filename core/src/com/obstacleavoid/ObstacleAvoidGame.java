@@ -3,38 +3,213 @@ package com.obstacleavoid;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.obstacleavoid.audio.AudioManager;
+import com.obstacleavoid.common.GameManager;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.LaunchOptions;
+import com.obstacleavoid.net.ScoreSubmitter;
 import com.obstacleavoid.screen.loading.LoadingScreen;
+import com.obstacleavoid.screen.menu.HighScoreScreen;
+import com.obstacleavoid.screen.menu.MenuScreen;
+import com.obstacleavoid.screen.menu.OptionsScreen;
+import com.obstacleavoid.simulation.ObstacleStore;
+import com.obstacleavoid.simulation.SpatialHashBroadphase;
+import com.obstacleavoid.util.debug.AllocationSampler;
+import com.obstacleavoid.util.debug.FrameProfiler;
+import com.obstacleavoid.util.debug.RuntimeAllocationSampler;
+import com.obstacleavoid.util.debug.SoakMonitor;
 
 public class ObstacleAvoidGame extends Game {
     private AssetManager assetManager;
     private SpriteBatch spriteBatch;
+    private AudioManager audioManager;
+    private final AllocationSampler allocationSampler;
+    private final LaunchOptions launchOptions;
+    private final SoakMonitor soakMonitor = new SoakMonitor();
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+    // every GameScreen plays in this one, LoadingScreen reserves it so no session grows it
+    private final ObstacleStore obstacleStore = new ObstacleStore(0, new SpatialHashBroadphase());
     private static final Logger LOG = new Logger(ObstacleAvoidGame.class.getName(), Logger.DEBUG);
 
+    private long createNanos;
+    private boolean assetsLoaded;
+    private int assetLoadMillis = GameConfig.ASSET_LOAD_MILLIS_PER_FRAME;
+    private boolean firstInteractiveLogged;
+
+    // menu screens are built once and kept, going back and forth only swaps which stage has input
+    private MenuScreen menuScreen;
+    private OptionsScreen optionsScreen;
+    private HighScoreScreen highScoreScreen;
+
+    public ObstacleAvoidGame() {
+        this(new RuntimeAllocationSampler(), new LaunchOptions());
+    }
+
+    // launchers with something better than heap sampling pass it in here
+    public ObstacleAvoidGame(AllocationSampler allocationSampler, LaunchOptions launchOptions) {
+        this.allocationSampler = allocationSampler;
+        this.launchOptions = launchOptions;
+    }
+
 	@Override
 	public void create() {
 		Gdx.app.setLogLevel(Application.LOG_DEBUG);
+        createNanos = TimeUtils.nanoTime();
         assetManager = new AssetManager();
         assetManager.getLogger().setLevel( Logger.DEBUG );
-        spriteBatch = new SpriteBatch();
+        spriteBatch = new SpriteBatch(GameConfig.SPRITE_BATCH_SIZE);
+        audioManager = new AudioManager(assetManager);
+        if (launchOptions.getLeaderboardUrl() != null) {
+            ScoreSubmitter scoreSubmitter = new ScoreSubmitter(launchOptions.getLeaderboardUrl(),
+                    Gdx.files.local(GameConfig.SUBMIT_QUEUE_FILE));
+            scoreSubmitter.start();
+            GameManager.INSTANCE.setScoreSubmitter(scoreSubmitter);
+        }
 		setScreen(new LoadingScreen(this));
 	}
 
+    // loading carries on here whatever the screen, the only place the manager is updated, a few ms a frame so the menu
+    // stays smooth
+    @Override
+    public void render() {
+        if (!assetsLoaded && assetManager.update(assetLoadMillis)) {
+            assetsLoaded = true;
+            LOG.info("All assets loaded " + millisSinceCreate() + " ms after start");
+        }
+        super.render();
+        // whatever the screen asked for this frame
+        audioManager.update();
+    }
+
+    // how much of each frame render() gives to loading, raised by a screen that has nothing else to do
+    public void setAssetLoadMillis(int millis) {
+        assetLoadMillis = millis;
+    }
+
+    // for screens that need every asset, blocks only if background loading has not got there yet
+    public void finishLoading() {
+        if (assetsLoaded) {
+            return;
+        }
+        long start = TimeUtils.nanoTime();
+        assetManager.finishLoading();
+        assetsLoaded = true;
+        LOG.info("Waited " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(start)) + " ms for remaining assets");
+    }
+
+    // called by every menu frame, logs startup to the first frame that takes input, once
+    public void interactiveFrame() {
+        if (!firstInteractiveLogged) {
+            firstInteractiveLogged = true;
+            LOG.info("First interactive frame " + millisSinceCreate() + " ms after start, "
+                    + assetManager.getQueuedAssets() + " assets still loading");
+        }
+    }
+
+    private long millisSinceCreate() {
+        return TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(createNanos));
+    }
+
     public AssetManager getAssetManager()
     {
         return assetManager;
     }
 
+    public AudioManager getAudioManager()
+    {
+        return audioManager;
+    }
+
     public SpriteBatch getSpriteBatch()
     {
         return spriteBatch;
     }
+
+    public AllocationSampler getAllocationSampler()
+    {
+        return allocationSampler;
+    }
+
+    public FrameProfiler getFrameProfiler()
+    {
+        return frameProfiler;
+    }
+
+    public ObstacleStore getObstacleStore()
+    {
+        return obstacleStore;
+    }
+
+    public MenuScreen getMenuScreen()
+    {
+        if (menuScreen == null) {
+            menuScreen = new MenuScreen(this);
+        }
+        return menuScreen;
+    }
+
+    public OptionsScreen getOptionsScreen()
+    {
+        if (optionsScreen == null) {
+            optionsScreen = new OptionsScreen(this);
+        }
+        return optionsScreen;
+    }
+
+    public HighScoreScreen getHighScoreScreen()
+    {
+        if (highScoreScreen == null) {
+            highScoreScreen = new HighScoreScreen(this);
+        }
+        return highScoreScreen;
+    }
+
+    public LaunchOptions getLaunchOptions()
+    {
+        return launchOptions;
+    }
+
+    public SoakMonitor getSoakMonitor()
+    {
+        return soakMonitor;
+    }
+    @Override
+    public void pause()
+    {
+        super.pause();
+        GameManager.INSTANCE.flush();
+    }
+
     @Override
     public void dispose()
     {
+        // hides the current screen first, a game in progress saves its replay while everything is still there
+        super.dispose();
+        ScoreSubmitter scoreSubmitter = GameManager.INSTANCE.getScoreSubmitter();
+        if (scoreSubmitter != null) {
+            scoreSubmitter.stop();
+            GameManager.INSTANCE.setScoreSubmitter(null);
+        }
+        GameManager.INSTANCE.dispose();
+        audioManager.stopAll();
+        frameProfiler.logSummary();
+        frameProfiler.writeCsv(Gdx.files.local(FrameProfiler.CSV_FILE));
+        disposeScreen(menuScreen);
+        disposeScreen(optionsScreen);
+        disposeScreen(highScoreScreen);
         assetManager.dispose();
         spriteBatch.dispose();
     }
+
+    private static void disposeScreen(Screen screen)
+    {
+        if (screen != null) {
+            screen.dispose();
+        }
+    }
 }
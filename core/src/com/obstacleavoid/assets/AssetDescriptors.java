@@ -23,5 +23,10 @@ public class AssetDescriptors
     public static final AssetDescriptor< Sound > CRASH_WAV =
             new AssetDescriptor<>( AssetPaths.CRASH_WAV, Sound.class );
 
+    // queued in this order, the menu shows once its group is in and the rest carries on loading behind it.
+    // the menu backgrounds are regions of the gameplay atlas, so it has to be in the first group
+    public static final AssetDescriptor< ? >[] MENU_ASSETS = { UI_SKIN, UI_FONT_32, GAMEPLAY_ATlAS };
+    public static final AssetDescriptor< ? >[] GAMEPLAY_ASSETS = { CRASH_WAV };
+
     private AssetDescriptors(){}
 }
@@ -0,0 +1,116 @@
+package com.obstacleavoid.audio;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Plays every SoundEffect for the game. play() only counts the request, update() at the end of the frame makes the
+ * actual Sound calls, so the simulation never waits on the audio backend and a burst of hits in one frame is one
+ * sound rather than dozens.
+ * <p>
+ * Each effect keeps the ids of its last getMaxVoices() plays. Playing it again once they are all used stops the
+ * oldest first, so a sound never has more voices than that however often it is triggered. Requests within
+ * getMinIntervalMillis() of its last play are dropped, so constant hits neither cut every play short nor make audio
+ * calls every frame.
+ * <p>
+ * Sounds come from the AssetManager, which still owns and disposes them. One that has not finished loading yet is
+ * skipped.
+ */
+public class AudioManager
+{
+    private static final long NO_VOICE = -1;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final AssetManager assetManager;
+    private final Sound[] sounds = new Sound[ SoundEffect.COUNT ];
+    private final int[] requested = new int[ SoundEffect.COUNT ];
+    private final long[][] voices = new long[ SoundEffect.COUNT ][];
+    private final int[] nextVoice = new int[ SoundEffect.COUNT ];
+    private final long[] lastPlayNanos = new long[ SoundEffect.COUNT ];
+    private boolean anyRequested;
+
+    public AudioManager( AssetManager assetManager )
+    {
+        this.assetManager = assetManager;
+        for ( int e = 0; e < SoundEffect.COUNT; e++ ) {
+            voices[ e ] = new long[ SoundEffect.get( e ).getMaxVoices( ) ];
+            Arrays.fill( voices[ e ], NO_VOICE );
+        }
+        Arrays.fill( lastPlayNanos, NEVER );
+    }
+
+    /**
+     * Asks for the effect this frame, any number of calls in one frame play it once.
+     */
+    public void play( SoundEffect effect )
+    {
+        requested[ effect.ordinal( ) ]++;
+        anyRequested = true;
+    }
+
+    /**
+     * Plays what was asked for since the last call, once a frame after the screen has rendered.
+     */
+    public void update()
+    {
+        if ( !anyRequested ) {
+            return;
+        }
+        anyRequested = false;
+        long now = TimeUtils.nanoTime( );
+
+        for ( int e = 0; e < SoundEffect.COUNT; e++ ) {
+            if ( requested[ e ] == 0 ) {
+                continue;
+            }
+            requested[ e ] = 0;
+
+            if ( lastPlayNanos[ e ] != NEVER
+                    && now - lastPlayNanos[ e ] < SoundEffect.get( e ).getMinIntervalMillis( ) * 1000000L ) {
+                continue;
+            }
+            Sound sound = getSound( e );
+            if ( sound == null ) {
+                continue;
+            }
+            long[] effectVoices = voices[ e ];
+            int voice = nextVoice[ e ];
+            if ( effectVoices[ voice ] != NO_VOICE ) {
+                // may well have finished already, stopping it then does nothing
+                sound.stop( effectVoices[ voice ] );
+            }
+            effectVoices[ voice ] = sound.play( );
+            nextVoice[ e ] = ( voice + 1 ) % effectVoices.length;
+            lastPlayNanos[ e ] = now;
+        }
+    }
+
+    public void stopAll()
+    {
+        for ( int e = 0; e < SoundEffect.COUNT; e++ ) {
+            requested[ e ] = 0;
+            if ( sounds[ e ] != null ) {
+                sounds[ e ].stop( );
+            }
+            Arrays.fill( voices[ e ], NO_VOICE );
+        }
+        Arrays.fill( lastPlayNanos, NEVER );
+        anyRequested = false;
+    }
+
+    // private
+
+    private Sound getSound( int effect )
+    {
+        if ( sounds[ effect ] == null ) {
+            SoundEffect soundEffect = SoundEffect.get( effect );
+            if ( assetManager.isLoaded( soundEffect.getDescriptor( ) ) ) {
+                sounds[ effect ] = assetManager.get( soundEffect.getDescriptor( ) );
+            }
+        }
+        return sounds[ effect ];
+    }
+}
@@ -0,0 +1,50 @@
+package com.obstacleavoid.audio;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Sound;
+import com.obstacleavoid.assets.AssetDescriptors;
+
+/**
+ * Every sound the game plays through the AudioManager, with how many of it may be heard at once and how soon it may
+ * start again. Together they say how long a play is heard at least before its voice is taken, voices * interval.
+ */
+public enum SoundEffect
+{
+    CRASH( AssetDescriptors.CRASH_WAV, 3, 100 );
+
+    public static final int COUNT = values( ).length;
+    private static final SoundEffect[] VALUES = values( );
+
+    private final AssetDescriptor< Sound > descriptor;
+    private final int maxVoices;
+    private final int minIntervalMillis;
+
+    SoundEffect( AssetDescriptor< Sound > descriptor, int maxVoices, int minIntervalMillis )
+    {
+        this.descriptor = descriptor;
+        this.maxVoices = maxVoices;
+        this.minIntervalMillis = minIntervalMillis;
+    }
+
+    // values() copies the array on every call
+    public static SoundEffect get( int ordinal )
+    {
+        return VALUES[ ordinal ];
+    }
+
+    public AssetDescriptor< Sound > getDescriptor()
+    {
+        return descriptor;
+    }
+
+    public int getMaxVoices()
+    {
+        return maxVoices;
+    }
+
+    // requests closer than this to the last play are dropped
+    public int getMinIntervalMillis()
+    {
+        return minIntervalMillis;
+    }
+}
@@ -1,48 +1,110 @@
 package com.obstacleavoid.common;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.obstacleavoid.ObstacleAvoidGame;
+import com.obstacleavoid.config.GameConfig;
 import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.net.ScoreSubmitter;
 
-// saved in userprofile dir .prefs on WINDOWS systems
+// settings saved in userprofile dir .prefs on WINDOWS systems, scores in the Leaderboard journal, neither waits on the disk
 public class GameManager
 {
     public static final GameManager INSTANCE = new GameManager();
-    private static final String HIGH_SCORE_KEY = "highscore";
-    private static final String DIFFICULTY_KEY = "difficulty";
-    private Preferences prefs;
-    private int highScore;
-    private GameDifficulty gameDifficulty;
+    private final ProfileStore profileStore = new ProfileStore( ObstacleAvoidGame.class.getSimpleName() );
+    private final Leaderboard leaderboard = new Leaderboard( GameConfig.LEADERBOARD_FILE );
+    private ScoreSubmitter scoreSubmitter; // null when scores are local only
+    private boolean stressTest; // for this run only, not saved
+    private boolean highScoreMoved;
 
     private GameManager(){
-        prefs = Gdx.app.getPreferences( ObstacleAvoidGame.class.getSimpleName() );
-        highScore = prefs.getInteger( HIGH_SCORE_KEY, 0 );
-        String difficultyName = prefs.getString( DIFFICULTY_KEY, GameDifficulty.MEDIUM.name( ) );
-        gameDifficulty = GameDifficulty.valueOf( difficultyName );
     }
 
-    public void updateHighScore(int score) {
-        if (score > highScore) {
-            prefs.putInteger( HIGH_SCORE_KEY, score );
-            prefs.flush(); // save prefs
-            highScore = score;
+    // started by LoadingScreen, the menu waits for isLoaded()
+    public void load() {
+        profileStore.load();
+        leaderboard.load();
+    }
+
+    public boolean isLoaded() {
+        return profileStore.isLoaded() && leaderboard.isLoaded();
+    }
+
+    // once, by LoadingScreen when isLoaded() first says true, for anything that needs both profile and leaderboard
+    public void loadFinished() {
+        if (!highScoreMoved) {
+            highScoreMoved = true;
+            moveLegacyHighScore();
         }
     }
 
+    // the high score of older versions goes into the new leaderboard, under the difficulty the player has set, it was
+    // never saved with one. The pref is removed only once the entry is written.
+    private void moveLegacyHighScore() {
+        int highScore = profileStore.getLegacyHighScore();
+        if (highScore < 0) {
+            return;
+        }
+        LeaderboardEntry entry = new LeaderboardEntry( highScore, getGameDifficulty(), 0, 0L, 0L );
+        leaderboard.addLegacy( entry, new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                profileStore.removeLegacyHighScore();
+            }
+        } );
+    }
+
+    /**
+     * @return place in that difficulty's leaderboard from 0, or -1 if it did not make it.
+     */
+    public int recordSession(int score, GameDifficulty difficulty, int durationMillis, long seed) {
+        LeaderboardEntry entry = new LeaderboardEntry( score, difficulty, durationMillis, seed, TimeUtils.millis() );
+        if (scoreSubmitter != null) {
+            scoreSubmitter.submit( entry );
+        }
+        return leaderboard.add( entry );
+    }
+
+    // started and stopped by ObstacleAvoidGame
+    public void setScoreSubmitter(ScoreSubmitter scoreSubmitter) {
+        this.scoreSubmitter = scoreSubmitter;
+    }
+
+    public ScoreSubmitter getScoreSubmitter() {
+        return scoreSubmitter;
+    }
+
     public void updateDifficulty(GameDifficulty difficulty) {
-        if (difficulty != gameDifficulty) {
-            prefs.putString( DIFFICULTY_KEY, difficulty.name( ) );
-            prefs.flush();
-            gameDifficulty = difficulty;
+        Profile profile = profileStore.get();
+        if (difficulty != profile.getDifficulty()) {
+            profileStore.save( profile.withDifficulty( difficulty ) );
         }
     }
 
-    public String getHighScoreString() {
-        return String.valueOf( highScore );
+    public void setStressTest(boolean stressTest) {
+        this.stressTest = stressTest;
+    }
+
+    public boolean isStressTest() {
+        return stressTest;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
 
     public GameDifficulty getGameDifficulty() {
-        return gameDifficulty;
+        return profileStore.get().getDifficulty();
+    }
+
+    // on pause, the app may not get another chance
+    public void flush() {
+        profileStore.flush();
+    }
+
+    public void dispose() {
+        profileStore.dispose();
+        leaderboard.dispose();
     }
 }
@@ -0,0 +1,268 @@
+package com.obstacleavoid.common;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * Every finished session, kept in an append-only journal file, and the best LEADERBOARD_SIZE of each difficulty in
+ * memory, so showing them never reads the file.
+ * <p>
+ * The journal is a header (magic "OALB", version) and then LeaderboardEntry.write() for each entry.
+ * Adding a session is one entry appended on a background thread. Once the journal holds
+ * LEADERBOARD_COMPACT_ENTRIES it is written again with only the entries kept in memory, the rest can never show.
+ * A torn last entry, from the app dying mid write, is dropped on load and compacted away. A file with a header this
+ * version does not know is renamed to .bad, not written over, and a new journal started.
+ * <p>
+ * Apart from load(), everything is called from the render thread.
+ */
+public class Leaderboard
+{
+    private static final Logger LOG = new Logger( Leaderboard.class.getName( ), Logger.DEBUG );
+
+    private static final int MAGIC = 0x4F414C42; // OALB
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4;
+
+    private final String path;
+    private final Map< GameDifficulty, Array< LeaderboardEntry > > top =
+            new EnumMap< GameDifficulty, Array< LeaderboardEntry > >( GameDifficulty.class );
+    private volatile boolean loaded;
+    private boolean created; // there was no journal before this load
+    private int journalEntries;
+
+    private FileHandle file;
+    private AsyncExecutor executor;
+
+    public Leaderboard( String path )
+    {
+        this.path = path;
+        for ( GameDifficulty difficulty : GameDifficulty.values( ) ) {
+            top.put( difficulty, new Array< LeaderboardEntry >( GameConfig.LEADERBOARD_SIZE + 1 ) );
+        }
+    }
+
+    /**
+     * Starts reading the journal in the background, isLoaded() says when it is in.
+     */
+    public void load()
+    {
+        if ( executor != null ) {
+            return;
+        }
+        file = Gdx.files.local( path );
+        executor = new AsyncExecutor( 1, "leaderboard" );
+        executor.submit( new AsyncTask< Void >( )
+        {
+            @Override
+            public Void call()
+            {
+                long start = System.nanoTime( );
+                boolean torn = read( );
+                if ( torn || journalEntries >= GameConfig.LEADERBOARD_COMPACT_ENTRIES ) {
+                    compact( kept( ) );
+                }
+                loaded = true;
+                LOG.debug( "Leaderboard loaded " + journalEntries + " entries in "
+                        + ( System.nanoTime( ) - start ) / 1000000 + " ms" );
+                return null;
+            }
+        } );
+    }
+
+    public boolean isLoaded()
+    {
+        return loaded;
+    }
+
+    /**
+     * Best first, at most LEADERBOARD_SIZE. Not to be changed.
+     */
+    public Array< LeaderboardEntry > getTop( GameDifficulty difficulty )
+    {
+        return top.get( difficulty );
+    }
+
+    /**
+     * @return 0 if nothing has been played at that difficulty.
+     */
+    public int getBest( GameDifficulty difficulty )
+    {
+        Array< LeaderboardEntry > entries = top.get( difficulty );
+        return entries.size == 0 ? 0 : entries.first( ).getScore( );
+    }
+
+    /**
+     * For a score kept from before there was a leaderboard. It is added only if this load started the journal, so it
+     * goes in once, and not at all for a score of 0. whenWritten runs on the leaderboard thread after the entry is on disk, or after nothing was added.
+     */
+    public void addLegacy( final LeaderboardEntry entry, final Runnable whenWritten )
+    {
+        final boolean add = created && entry.getScore( ) > 0;
+        created = false;
+        if ( add ) {
+            insert( entry );
+            journalEntries++;
+        }
+        executor.submit( new AsyncTask< Void >( )
+        {
+            @Override
+            public Void call()
+            {
+                if ( add ) {
+                    append( entry );
+                }
+                whenWritten.run( );
+                return null;
+            }
+        } );
+    }
+
+    /**
+     * Ranks the session straight away, the journal is written behind.
+     *
+     * @return its place in the top list from 0, or -1 if it did not make it.
+     */
+    public int add( final LeaderboardEntry entry )
+    {
+        int rank = insert( entry );
+        journalEntries++;
+
+        if ( journalEntries >= GameConfig.LEADERBOARD_COMPACT_ENTRIES ) {
+            // this entry is in kept if it ranked, otherwise it would be compacted away anyway
+            final Array< LeaderboardEntry > kept = kept( );
+            journalEntries = kept.size;
+            executor.submit( new AsyncTask< Void >( )
+            {
+                @Override
+                public Void call()
+                {
+                    compact( kept );
+                    return null;
+                }
+            } );
+        } else {
+            executor.submit( new AsyncTask< Void >( )
+            {
+                @Override
+                public Void call()
+                {
+                    append( entry );
+                    return null;
+                }
+            } );
+        }
+        return rank;
+    }
+
+    /**
+     * Waits for anything not written yet.
+     */
+    public void dispose()
+    {
+        if ( executor != null ) {
+            executor.dispose( );
+            executor = null;
+        }
+    }
+
+    // private
+
+    private int insert( LeaderboardEntry entry )
+    {
+        Array< LeaderboardEntry > entries = top.get( entry.getDifficulty( ) );
+        int rank = entries.size;
+        while ( rank > 0 && entry.ranksAbove( entries.get( rank - 1 ) ) ) {
+            rank--;
+        }
+        if ( rank >= GameConfig.LEADERBOARD_SIZE ) {
+            return -1;
+        }
+        entries.insert( rank, entry );
+        if ( entries.size > GameConfig.LEADERBOARD_SIZE ) {
+            entries.pop( );
+        }
+        return rank;
+    }
+
+    private Array< LeaderboardEntry > kept()
+    {
+        Array< LeaderboardEntry > kept = new Array< LeaderboardEntry >( );
+        for ( Array< LeaderboardEntry > entries : top.values( ) ) {
+            kept.addAll( entries );
+        }
+        return kept;
+    }
+
+    // @return true if the last entry was cut short
+    private boolean read()
+    {
+        journalEntries = 0;
+        created = !file.exists( );
+        if ( created ) {
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap( file.readBytes( ) );
+        if ( !buffer.hasRemaining( ) ) {
+            // created but nothing written, append() puts the header in
+            return false;
+        }
+        if ( buffer.remaining( ) < HEADER_BYTES || buffer.getInt( ) != MAGIC || buffer.getInt( ) != VERSION ) {
+            // may be a newer version's or a torn header, kept for whoever can read it
+            FileHandle bad = file.sibling( file.name( ) + ".bad" );
+            file.moveTo( bad );
+            LOG.error( "Not a leaderboard journal this version reads, moved to " + bad.path( ) + ", starting again" );
+            return false;
+        }
+
+        while ( buffer.remaining( ) >= LeaderboardEntry.BYTES ) {
+            LeaderboardEntry entry = LeaderboardEntry.read( buffer );
+            journalEntries++;
+            if ( entry != null ) {
+                insert( entry );
+            }
+        }
+        return buffer.hasRemaining( );
+    }
+
+    private void append( LeaderboardEntry entry )
+    {
+        boolean header = !file.exists( ) || file.length( ) == 0;
+        ByteBuffer buffer = ByteBuffer.allocate( ( header ? HEADER_BYTES : 0 ) + LeaderboardEntry.BYTES );
+        if ( header ) {
+            putHeader( buffer );
+        }
+        entry.write( buffer );
+        file.writeBytes( buffer.array( ), true );
+    }
+
+    // written next to the journal and then moved over it, so dying half way leaves the old journal
+    private void compact( Array< LeaderboardEntry > kept )
+    {
+        ByteBuffer buffer = ByteBuffer.allocate( HEADER_BYTES + kept.size * LeaderboardEntry.BYTES );
+        putHeader( buffer );
+        for ( LeaderboardEntry entry : kept ) {
+            entry.write( buffer );
+        }
+        FileHandle temp = file.sibling( file.name( ) + ".tmp" );
+        temp.writeBytes( buffer.array( ), false );
+        temp.moveTo( file );
+        LOG.debug( "Leaderboard journal compacted to " + kept.size + " entries" );
+    }
+
+    private static void putHeader( ByteBuffer buffer )
+    {
+        buffer.putInt( MAGIC );
+        buffer.putInt( VERSION );
+    }
+}
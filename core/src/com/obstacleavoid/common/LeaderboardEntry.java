@@ -0,0 +1,100 @@
+package com.obstacleavoid.common;
+
+import java.nio.ByteBuffer;
+
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * One finished session. The seed with the difficulty is enough to start the same game again.
+ */
+public final class LeaderboardEntry
+{
+    /**
+     * Size of write(), big endian:
+     * <pre>
+     *   long  time finished, epoch millis
+     *   long  seed
+     *   int   score
+     *   int   duration millis
+     *   byte  GameDifficulty ordinal
+     * </pre>
+     */
+    public static final int BYTES = 8 + 8 + 4 + 4 + 1;
+
+    private final int score;
+    private final GameDifficulty difficulty;
+    private final int durationMillis;
+    private final long seed;
+    private final long timeMillis; // when it finished, epoch
+
+    public LeaderboardEntry( int score, GameDifficulty difficulty, int durationMillis, long seed, long timeMillis )
+    {
+        this.score = score;
+        this.difficulty = difficulty;
+        this.durationMillis = durationMillis;
+        this.seed = seed;
+        this.timeMillis = timeMillis;
+    }
+
+    public int getScore()
+    {
+        return score;
+    }
+
+    public GameDifficulty getDifficulty()
+    {
+        return difficulty;
+    }
+
+    public int getDurationMillis()
+    {
+        return durationMillis;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public long getTimeMillis()
+    {
+        return timeMillis;
+    }
+
+    /**
+     * Reads what write() wrote.
+     *
+     * @return null if the difficulty is not one this version knows, the bytes are read either way.
+     */
+    public static LeaderboardEntry read( ByteBuffer buffer )
+    {
+        long timeMillis = buffer.getLong( );
+        long seed = buffer.getLong( );
+        int score = buffer.getInt( );
+        int durationMillis = buffer.getInt( );
+        int difficulty = buffer.get( );
+
+        GameDifficulty[] difficulties = GameDifficulty.values( );
+        if ( difficulty < 0 || difficulty >= difficulties.length ) {
+            return null;
+        }
+        return new LeaderboardEntry( score, difficulties[ difficulty ], durationMillis, seed, timeMillis );
+    }
+
+    public void write( ByteBuffer buffer )
+    {
+        buffer.putLong( timeMillis );
+        buffer.putLong( seed );
+        buffer.putInt( score );
+        buffer.putInt( durationMillis );
+        buffer.put( (byte) difficulty.ordinal( ) );
+    }
+
+    /**
+     * Higher score first, on a tie whoever got there first.
+     */
+    public boolean ranksAbove( LeaderboardEntry other )
+    {
+        return score > other.score || ( score == other.score && timeMillis < other.timeMillis );
+    }
+}
@@ -0,0 +1,29 @@
+package com.obstacleavoid.common;
+
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * Settings saved for the player, scores are in the Leaderboard. Never changed once made, so the render thread can
+ * read it while the store's thread writes an older one out.
+ */
+public final class Profile
+{
+    public static final Profile DEFAULT = new Profile( GameDifficulty.MEDIUM );
+
+    private final GameDifficulty difficulty;
+
+    public Profile( GameDifficulty difficulty )
+    {
+        this.difficulty = difficulty;
+    }
+
+    public GameDifficulty getDifficulty()
+    {
+        return difficulty;
+    }
+
+    public Profile withDifficulty( GameDifficulty gameDifficulty )
+    {
+        return new Profile( gameDifficulty );
+    }
+}
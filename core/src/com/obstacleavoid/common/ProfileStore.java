@@ -0,0 +1,176 @@
+package com.obstacleavoid.common;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Logger;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * Keeps the Profile in Preferences without the render thread ever touching the disk. Reads come from the latest
+ * Profile in memory. Saves only replace that Profile, a single background thread writes it out at most
+ * PROFILE_FLUSH_DELAY_MILLIS later, so any saves in between become one write.
+ * <p>
+ * load() reads the Preferences on the same thread, so nothing is written before it has been read.
+ */
+public class ProfileStore
+{
+    private static final Logger LOG = new Logger( ProfileStore.class.getName( ), Logger.DEBUG );
+
+    private static final String DIFFICULTY_KEY = "difficulty";
+    // the single high score of before the Leaderboard, only read to move it there
+    private static final String LEGACY_HIGH_SCORE_KEY = "highscore";
+
+    private final String name;
+    private volatile Profile profile = Profile.DEFAULT;
+    private volatile boolean loaded;
+    private volatile int legacyHighScore = -1;
+
+    private final AtomicReference< Profile > unsaved = new AtomicReference< Profile >( );
+    private final AtomicBoolean flushScheduled = new AtomicBoolean( );
+    private final Object writeLock = new Object( );
+    private Preferences prefs; // only used holding writeLock, or on the executor before loaded is set
+    private AsyncExecutor executor;
+
+    public ProfileStore( String name )
+    {
+        this.name = name;
+    }
+
+    /**
+     * Starts reading the Preferences in the background, isLoaded() says when they are in.
+     */
+    public void load()
+    {
+        if ( executor != null ) {
+            return;
+        }
+        executor = new AsyncExecutor( 1, "profile" );
+        executor.submit( new AsyncTask< Void >( )
+        {
+            @Override
+            public Void call()
+            {
+                long start = System.nanoTime( );
+                synchronized ( writeLock ) {
+                    prefs = Gdx.app.getPreferences( name );
+                    profile = read( prefs );
+                    if ( prefs.contains( LEGACY_HIGH_SCORE_KEY ) ) {
+                        legacyHighScore = prefs.getInteger( LEGACY_HIGH_SCORE_KEY, 0 );
+                    }
+                }
+                loaded = true;
+                LOG.debug( "Profile loaded in " + ( System.nanoTime( ) - start ) / 1000000 + " ms" );
+                return null;
+            }
+        } );
+    }
+
+    public boolean isLoaded()
+    {
+        return loaded;
+    }
+
+    public Profile get()
+    {
+        return profile;
+    }
+
+    /**
+     * @return the high score saved by versions before the Leaderboard, -1 if there is none. Known once loaded.
+     */
+    public int getLegacyHighScore()
+    {
+        return legacyHighScore;
+    }
+
+    /**
+     * Deletes the old high score from the Preferences, on the calling thread. Any thread, once loaded.
+     */
+    public void removeLegacyHighScore()
+    {
+        synchronized ( writeLock ) {
+            prefs.remove( LEGACY_HIGH_SCORE_KEY );
+            prefs.flush( );
+        }
+        legacyHighScore = -1;
+    }
+
+    /**
+     * Replaces the profile straight away for reads, it is written out later on the background thread.
+     */
+    public void save( Profile newProfile )
+    {
+        profile = newProfile;
+        unsaved.set( newProfile );
+
+        if ( executor != null && flushScheduled.compareAndSet( false, true ) ) {
+            executor.submit( new AsyncTask< Void >( )
+            {
+                @Override
+                public Void call() throws InterruptedException
+                {
+                    Thread.sleep( GameConfig.PROFILE_FLUSH_DELAY_MILLIS );
+                    // cleared before taking the profile, a save after this schedules its own flush
+                    flushScheduled.set( false );
+                    write( );
+                    return null;
+                }
+            } );
+        }
+    }
+
+    /**
+     * Writes anything unsaved on the calling thread, for when the app may be killed without warning.
+     */
+    public void flush()
+    {
+        if ( loaded ) {
+            write( );
+        }
+    }
+
+    /**
+     * Lets a scheduled flush finish and writes anything left. The store can be loaded again afterwards.
+     */
+    public void dispose()
+    {
+        if ( executor != null ) {
+            executor.dispose( );
+            executor = null;
+        }
+        flush( );
+    }
+
+    // private
+
+    private void write()
+    {
+        Profile toWrite = unsaved.getAndSet( null );
+        if ( toWrite == null ) {
+            return;
+        }
+        synchronized ( writeLock ) {
+            prefs.putString( DIFFICULTY_KEY, toWrite.getDifficulty( ).name( ) );
+            prefs.flush( );
+        }
+    }
+
+    private static Profile read( Preferences preferences )
+    {
+        String difficultyName = preferences.getString( DIFFICULTY_KEY, Profile.DEFAULT.getDifficulty( ).name( ) );
+        GameDifficulty difficulty;
+        try {
+            difficulty = GameDifficulty.valueOf( difficultyName );
+        } catch ( IllegalArgumentException e ) {
+            LOG.error( "Unknown difficulty " + difficultyName + " in profile", e );
+            difficulty = Profile.DEFAULT.getDifficulty( );
+        }
+        return new Profile( difficulty );
+    }
+}
@@ -19,9 +19,50 @@ public class GameConfig {
     public static final float PLAYER_SCORES_AFTER = 1.25f;
     public static final int PLAYER_INITIAL_LIVES = 3;
 
-    public static final float EASY_OBSTACLE_SPEED = 0.1f;
-    public static final float MEDIUM_OBSTACLE_SPEED = 0.15f;
-    public static final float HARD_OBSTACLE_SPEED = 0.18f;
+    // sprites per SpriteBatch flush, the most it takes, so thousands of obstacles are only a few draw calls
+    public static final int SPRITE_BATCH_SIZE = 8191;
+
+    // fixed simulation step, rendering interpolates between the last two ticks
+    public static final int SIMULATION_TICKS_PER_SECOND = 60;
+    public static final int MAX_SIMULATION_TICKS_PER_FRAME = 5; // after a long stall drop time rather than catch up
+
+    // stress test, the spawn interval halves every STRESS_DOUBLING_SECONDS until STRESS_MIN_SPAWN_EVERY, 10000 a second
+    // at MEDIUM speed that is over 10000 obstacles on screen
+    public static final float STRESS_DOUBLING_SECONDS = 10f;
+    public static final float STRESS_MIN_SPAWN_EVERY = 1f / 10000f;
+
+    // obstacle slots the game's ObstacleStore is given while loading, enough for the stress test peak (~18000 on EASY,
+    // the slowest fall) so the store never has to grow in play, about 1.3MB with the broadphase. STORE GROWS on the F2
+    // overlay says if it ever does
+    public static final int OBSTACLE_STORE_CAPACITY = 32768;
+
+    // background asset loading gets at most this much of each frame once the menu is up
+    public static final int ASSET_LOAD_MILLIS_PER_FRAME = 4;
+
+    // a saved high score or difficulty reaches the disk at most this long after the change
+    public static final long PROFILE_FLUSH_DELAY_MILLIS = 500;
+
+    // best sessions kept per difficulty, the journal is compacted down to those once it holds LEADERBOARD_COMPACT_ENTRIES
+    public static final String LEADERBOARD_FILE = "leaderboard.oalb";
+    public static final int LEADERBOARD_SIZE = 10;
+    public static final int LEADERBOARD_COMPACT_ENTRIES = 256;
+
+    // remote leaderboard, only when a URL is given at launch. Unsent scores wait in SUBMIT_QUEUE_FILE
+    public static final String SUBMIT_QUEUE_FILE = "submit-queue.oasq";
+    public static final int SUBMIT_BATCH_SIZE = 50;
+    public static final long SUBMIT_BATCH_DELAY_MILLIS = 2000;
+    public static final long SUBMIT_RETRY_BASE_MILLIS = 1000;
+    public static final long SUBMIT_RETRY_MAX_MILLIS = 60000;
+
+    // local storage, one file per session
+    public static final String REPLAY_DIRECTORY = "replays/";
+    // replay archives keep the full game state this often, seeking simulates at most this many ticks
+    public static final int REPLAY_KEYFRAME_INTERVAL = 10 * SIMULATION_TICKS_PER_SECOND;
+
+    // world units per second (the old per frame speeds * 60)
+    public static final float EASY_OBSTACLE_SPEED = 6f;
+    public static final float MEDIUM_OBSTACLE_SPEED = 9f;
+    public static final float HARD_OBSTACLE_SPEED = 10.8f;
 
     // object sizing
     public static final float PLAYER_BOUNDS_RADIUS = 0.4f;
@@ -0,0 +1,64 @@
+package com.obstacleavoid.config;
+
+/**
+ * How the game was started, set by the launcher before the game is created. The defaults are a normal game.
+ */
+public class LaunchOptions
+{
+    // DodgeBot plays, each game over starts the next game straight away
+    private boolean bot;
+    // the obstacle count ramps up into the thousands, see StressRamp
+    private boolean stress;
+    // absolute path of a replay to watch instead of playing, null for none
+    private String replayPath;
+    // scores are submitted here as well as kept locally, null for local only
+    private String leaderboardUrl;
+
+    public LaunchOptions(){}
+
+    public boolean isBot()
+    {
+        return bot;
+    }
+
+    public void setBot( boolean bot )
+    {
+        this.bot = bot;
+    }
+
+    public boolean isStress()
+    {
+        return stress;
+    }
+
+    public void setStress( boolean stress )
+    {
+        this.stress = stress;
+    }
+
+    public String getReplayPath()
+    {
+        return replayPath;
+    }
+
+    public void setReplayPath( String replayPath )
+    {
+        this.replayPath = replayPath;
+    }
+
+    public String getLeaderboardUrl()
+    {
+        return leaderboardUrl;
+    }
+
+    public void setLeaderboardUrl( String leaderboardUrl )
+    {
+        this.leaderboardUrl = leaderboardUrl;
+    }
+
+    // nobody at the keyboard, so skip the menus
+    public boolean isUnattended()
+    {
+        return bot || stress || replayPath != null;
+    }
+}
@@ -0,0 +1,430 @@
+package com.obstacleavoid.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Logger;
+import com.obstacleavoid.common.LeaderboardEntry;
+import com.obstacleavoid.config.GameConfig;
+
+/**
+ * Sends finished sessions to a remote leaderboard from its own thread. submit() only queues, so the game over path
+ * never waits on the network or the disk.
+ * <p>
+ * The thread waits SUBMIT_BATCH_DELAY_MILLIS after a score arrives so any others go with it, then POSTs up to
+ * SUBMIT_BATCH_SIZE of them as gzipped JSON:
+ * <pre>
+ *   {"scores":[{"score":120,"difficulty":"HARD","durationMillis":61200,"seed":-4425,"time":1760000000000},...]}
+ * </pre>
+ * Scores leave the queue only once the server answers 2xx. Failures are retried with exponential backoff and jitter,
+ * a 4xx other than 408 and 429 means the batch will never be accepted and it is dropped. A retried batch may have
+ * reached the server already, seed and time together identify a session for the server to drop repeats.
+ * <p>
+ * Whatever is queued is kept in a file, written by the submit thread whenever the queue changes, and sent after the
+ * next start.
+ */
+public class ScoreSubmitter
+{
+    private static final Logger LOG = new Logger( ScoreSubmitter.class.getName( ), Logger.DEBUG );
+
+    private static final int MAGIC = 0x4F415351; // OASQ
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4;
+    private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final URL url;
+    private final FileHandle queueFile;
+    private final Random random = new Random( );
+
+    // guarded by lock, oldest first
+    private final Object lock = new Object( );
+    private final Object fileLock = new Object( );
+    private final Array< LeaderboardEntry > queue = new Array< LeaderboardEntry >( );
+    private boolean queueChanged;
+    private boolean running;
+    private Thread thread;
+
+    // metrics, written by the submit thread only
+    private volatile int queueDepth;
+    private volatile int submittedCount;
+    private volatile int droppedCount;
+    private volatile int failedAttempts;
+    private volatile int batchCount;
+    private volatile long lastLatencyMillis;
+    private volatile long maxLatencyMillis;
+    private volatile long totalLatencyMillis;
+
+    public ScoreSubmitter( String url, FileHandle queueFile )
+    {
+        try {
+            this.url = new URL( url );
+        } catch ( MalformedURLException e ) {
+            throw new GdxRuntimeException( "Not a leaderboard URL: " + url, e );
+        }
+        this.queueFile = queueFile;
+    }
+
+    public void start()
+    {
+        synchronized ( lock ) {
+            if ( running ) {
+                return;
+            }
+            running = true;
+        }
+        thread = new Thread( new Runnable( )
+        {
+            @Override
+            public void run()
+            {
+                loadQueue( );
+                submitLoop( );
+                persist( );
+            }
+        }, "score-submitter" );
+        thread.setDaemon( true );
+        thread.start( );
+    }
+
+    /**
+     * Queues the entry, nothing else, safe to call from the render thread.
+     */
+    public void submit( LeaderboardEntry entry )
+    {
+        synchronized ( lock ) {
+            queue.add( entry );
+            queueChanged = true;
+            queueDepth = queue.size;
+            lock.notifyAll( );
+        }
+    }
+
+    /**
+     * Stops the thread, waiting at most a second for a send in progress. Anything not sent stays in the queue file.
+     */
+    public void stop()
+    {
+        synchronized ( lock ) {
+            running = false;
+            lock.notifyAll( );
+        }
+        if ( thread == null ) {
+            return;
+        }
+        try {
+            thread.join( 1000 );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread( ).interrupt( );
+        }
+        if ( thread.isAlive( ) ) {
+            // stuck on the network, save what is queued from here, it is sent again next start
+            persist( );
+        }
+        thread = null;
+    }
+
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+    public int getSubmittedCount()
+    {
+        return submittedCount;
+    }
+
+    public int getDroppedCount()
+    {
+        return droppedCount;
+    }
+
+    public int getFailedAttempts()
+    {
+        return failedAttempts;
+    }
+
+    /**
+     * Time from starting a successful POST to its response, 0 before the first.
+     */
+    public long getLastLatencyMillis()
+    {
+        return lastLatencyMillis;
+    }
+
+    public long getMaxLatencyMillis()
+    {
+        return maxLatencyMillis;
+    }
+
+    public long getMeanLatencyMillis()
+    {
+        int batches = batchCount;
+        return batches == 0 ? 0 : totalLatencyMillis / batches;
+    }
+
+    // private
+
+    private void submitLoop()
+    {
+        int attempt = 0;
+
+        while ( true ) {
+            synchronized ( lock ) {
+                while ( running && queue.size == 0 ) {
+                    waitOnLock( 0 );
+                }
+                if ( !running ) {
+                    return;
+                }
+            }
+            persist( );
+
+            // a retry has already waited, a new batch gives other scores the chance to join it
+            if ( attempt == 0 && !pause( GameConfig.SUBMIT_BATCH_DELAY_MILLIS ) ) {
+                return;
+            }
+
+            Array< LeaderboardEntry > batch;
+            synchronized ( lock ) {
+                batch = new Array< LeaderboardEntry >( Math.min( queue.size, GameConfig.SUBMIT_BATCH_SIZE ) );
+                for ( int i = 0; i < queue.size && i < GameConfig.SUBMIT_BATCH_SIZE; i++ ) {
+                    batch.add( queue.get( i ) );
+                }
+            }
+
+            long start = System.nanoTime( );
+            int status = send( batch );
+            long latencyMillis = ( System.nanoTime( ) - start ) / 1000000;
+
+            if ( status >= 200 && status < 300 ) {
+                remove( batch.size );
+                submittedCount += batch.size;
+                recordLatency( latencyMillis );
+                attempt = 0;
+                LOG.debug( "Submitted " + batch.size + " scores in " + latencyMillis + " ms, " + queueDepth
+                        + " queued" );
+            } else if ( status >= 400 && status < 500 && status != 408 && status != 429 ) {
+                remove( batch.size );
+                droppedCount += batch.size;
+                attempt = 0;
+                LOG.error( "Leaderboard refused " + batch.size + " scores with " + status + ", dropped" );
+            } else {
+                failedAttempts++;
+                attempt++;
+                long backoff = backoffMillis( attempt );
+                LOG.info( "Score submit failed (" + status + "), attempt " + attempt + ", retrying in " + backoff
+                        + " ms, " + queueDepth + " queued" );
+                if ( !pause( backoff ) ) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // -1 when there was no response at all
+    private int send( Array< LeaderboardEntry > batch )
+    {
+        HttpURLConnection connection = null;
+        try {
+            byte[] body = gzip( toJson( batch ) );
+
+            connection = (HttpURLConnection) url.openConnection( );
+            connection.setConnectTimeout( CONNECT_TIMEOUT_MILLIS );
+            connection.setReadTimeout( READ_TIMEOUT_MILLIS );
+            connection.setRequestMethod( "POST" );
+            connection.setDoOutput( true );
+            connection.setRequestProperty( "Content-Type", "application/json; charset=utf-8" );
+            connection.setRequestProperty( "Content-Encoding", "gzip" );
+            connection.setFixedLengthStreamingMode( body.length );
+
+            OutputStream out = connection.getOutputStream( );
+            try {
+                out.write( body );
+            } finally {
+                out.close( );
+            }
+
+            int status = connection.getResponseCode( );
+            // read to the end, so the connection can be kept alive for the next batch
+            drain( status < 400 ? connection.getInputStream( ) : connection.getErrorStream( ) );
+            return status;
+        } catch ( IOException e ) {
+            LOG.debug( "Score submit to " + url + " failed: " + e );
+            if ( connection != null ) {
+                connection.disconnect( );
+            }
+            return -1;
+        }
+    }
+
+    private static String toJson( Array< LeaderboardEntry > batch )
+    {
+        StringBuilder json = new StringBuilder( 32 + batch.size * 96 );
+        json.append( "{\"scores\":[" );
+        for ( int i = 0; i < batch.size; i++ ) {
+            LeaderboardEntry entry = batch.get( i );
+            if ( i > 0 ) {
+                json.append( ',' );
+            }
+            json.append( "{\"score\":" ).append( entry.getScore( ) )
+                    .append( ",\"difficulty\":\"" ).append( entry.getDifficulty( ).name( ) )
+                    .append( "\",\"durationMillis\":" ).append( entry.getDurationMillis( ) )
+                    .append( ",\"seed\":" ).append( entry.getSeed( ) )
+                    .append( ",\"time\":" ).append( entry.getTimeMillis( ) ).append( '}' );
+        }
+        return json.append( "]}" ).toString( );
+    }
+
+    private static byte[] gzip( String text ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream( );
+        GZIPOutputStream out = new GZIPOutputStream( bytes );
+        try {
+            out.write( text.getBytes( "UTF-8" ) );
+        } finally {
+            out.close( );
+        }
+        return bytes.toByteArray( );
+    }
+
+    private static void drain( InputStream in ) throws IOException
+    {
+        if ( in == null ) {
+            return;
+        }
+        try {
+            byte[] buffer = new byte[ 512 ];
+            while ( in.read( buffer ) != -1 ) {
+                // discard
+            }
+        } finally {
+            in.close( );
+        }
+    }
+
+    // SUBMIT_RETRY_BASE_MILLIS doubling each attempt up to SUBMIT_RETRY_MAX_MILLIS, then 50-100% of that so
+    // clients that failed together do not all retry together
+    private long backoffMillis( int attempt )
+    {
+        long backoff = GameConfig.SUBMIT_RETRY_BASE_MILLIS << Math.min( attempt - 1, MAX_BACKOFF_SHIFT );
+        backoff = Math.min( backoff, GameConfig.SUBMIT_RETRY_MAX_MILLIS );
+        return backoff / 2 + (long) ( random.nextFloat( ) * backoff / 2 );
+    }
+
+    private void recordLatency( long latencyMillis )
+    {
+        lastLatencyMillis = latencyMillis;
+        maxLatencyMillis = Math.max( maxLatencyMillis, latencyMillis );
+        totalLatencyMillis += latencyMillis;
+        batchCount++;
+    }
+
+    private void remove( int count )
+    {
+        synchronized ( lock ) {
+            queue.removeRange( 0, count - 1 );
+            queueChanged = true;
+            queueDepth = queue.size;
+        }
+        persist( );
+    }
+
+    // @return false if stopped while waiting
+    private boolean pause( long millis )
+    {
+        long end = System.currentTimeMillis( ) + millis;
+        synchronized ( lock ) {
+            long left = millis;
+            while ( running && left > 0 ) {
+                waitOnLock( left );
+                left = end - System.currentTimeMillis( );
+            }
+            return running;
+        }
+    }
+
+    // caller holds lock
+    private void waitOnLock( long millis )
+    {
+        try {
+            lock.wait( millis );
+        } catch ( InterruptedException e ) {
+            running = false;
+        }
+    }
+
+    // the file is written outside the lock, so submit() is never held up by the disk
+    private void persist()
+    {
+        Array< LeaderboardEntry > snapshot;
+        synchronized ( lock ) {
+            if ( !queueChanged ) {
+                return;
+            }
+            snapshot = new Array< LeaderboardEntry >( queue );
+            queueChanged = false;
+        }
+
+        if ( snapshot.size == 0 ) {
+            synchronized ( fileLock ) {
+                queueFile.delete( );
+            }
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate( HEADER_BYTES + snapshot.size * LeaderboardEntry.BYTES );
+        buffer.putInt( MAGIC );
+        buffer.putInt( VERSION );
+        for ( LeaderboardEntry entry : snapshot ) {
+            entry.write( buffer );
+        }
+        // stop() may save while a send it gave up on is still going
+        synchronized ( fileLock ) {
+            FileHandle temp = queueFile.sibling( queueFile.name( ) + ".tmp" );
+            temp.writeBytes( buffer.array( ), false );
+            temp.moveTo( queueFile );
+        }
+    }
+
+    // the saved entries go before anything submitted since start()
+    private void loadQueue()
+    {
+        if ( !queueFile.exists( ) ) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap( queueFile.readBytes( ) );
+        if ( buffer.remaining( ) < HEADER_BYTES || buffer.getInt( ) != MAGIC || buffer.getInt( ) != VERSION ) {
+            LOG.error( "Not a score queue, ignored: " + queueFile.path( ) );
+            return;
+        }
+
+        Array< LeaderboardEntry > saved = new Array< LeaderboardEntry >( );
+        while ( buffer.remaining( ) >= LeaderboardEntry.BYTES ) {
+            LeaderboardEntry entry = LeaderboardEntry.read( buffer );
+            if ( entry != null ) {
+                saved.add( entry );
+            }
+        }
+        int savedCount = saved.size;
+        synchronized ( lock ) {
+            saved.addAll( queue );
+            queue.clear( );
+            queue.addAll( saved );
+            queueChanged = true;
+            queueDepth = queue.size;
+        }
+        LOG.debug( savedCount + " scores from last time waiting to be submitted" );
+    }
+}
@@ -0,0 +1,61 @@
+package com.obstacleavoid.replay;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads back what BitOutput wrote, from an array or straight out of a (mapped) buffer.
+ */
+class BitInput
+{
+    private final ByteBuffer bytes;
+    private final int start;
+    private final int bitLength;
+    private int position;
+
+    BitInput( byte[] bytes, int bitLength )
+    {
+        this( ByteBuffer.wrap( bytes ), 0, bitLength );
+    }
+
+    // bits from the byte at start on, absolute reads so the buffer's position is left alone
+    BitInput( ByteBuffer bytes, int start, int bitLength )
+    {
+        this.bytes = bytes;
+        this.start = start;
+        this.bitLength = bitLength;
+    }
+
+    int readBit()
+    {
+        if ( position >= bitLength ) {
+            throw new IllegalStateException( "Read past the end of " + bitLength + " bits" );
+        }
+        int bit = ( bytes.get( start + ( position >>> 3 ) ) >>> ( 7 - ( position & 7 ) ) ) & 1;
+        position++;
+        return bit;
+    }
+
+    int readBits( int count )
+    {
+        int value = 0;
+        for ( int i = 0; i < count; i++ ) {
+            value = ( value << 1 ) | readBit( );
+        }
+        return value;
+    }
+
+    int readGamma()
+    {
+        int zeros = 0;
+        while ( readBit( ) == 0 ) {
+            zeros++;
+        }
+        // the 1 just read is the top bit
+        return ( 1 << zeros ) | readBits( zeros );
+    }
+
+    boolean hasMore()
+    {
+        return position < bitLength;
+    }
+}
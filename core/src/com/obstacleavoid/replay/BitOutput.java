@@ -0,0 +1,70 @@
+package com.obstacleavoid.replay;
+
+import java.util.Arrays;
+
+/**
+ * Appends bits, most significant first, to a byte array that grows as needed.
+ */
+class BitOutput
+{
+    private byte[] bytes;
+    private int bitLength;
+
+    BitOutput( int initialBytes )
+    {
+        bytes = new byte[ Math.max( 1, initialBytes ) ];
+    }
+
+    void writeBit( int bit )
+    {
+        int byteIndex = bitLength >>> 3;
+        if ( byteIndex == bytes.length ) {
+            bytes = Arrays.copyOf( bytes, bytes.length * 2 );
+        }
+        if ( bit != 0 ) {
+            bytes[ byteIndex ] |= 0x80 >>> ( bitLength & 7 );
+        }
+        bitLength++;
+    }
+
+    // the low count bits of value
+    void writeBits( int value, int count )
+    {
+        for ( int i = count - 1; i >= 0; i-- ) {
+            writeBit( ( value >>> i ) & 1 );
+        }
+    }
+
+    /**
+     * Elias gamma code, n must be >= 1. Takes 2 * floor(log2(n)) + 1 bits, so short runs stay short.
+     */
+    void writeGamma( int n )
+    {
+        int bits = 32 - Integer.numberOfLeadingZeros( n );
+        for ( int i = 1; i < bits; i++ ) {
+            writeBit( 0 );
+        }
+        writeBits( n, bits );
+    }
+
+    void clear()
+    {
+        Arrays.fill( bytes, 0, getByteLength( ), (byte) 0 );
+        bitLength = 0;
+    }
+
+    int getBitLength()
+    {
+        return bitLength;
+    }
+
+    int getByteLength()
+    {
+        return ( bitLength + 7 ) >>> 3;
+    }
+
+    byte[] getBytes()
+    {
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.obstacleavoid.replay;
+
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * Run length encoding of per-tick input into a BitOutput, shared by ReplayRecorder and ReplayArchiveWriter.
+ * Each run is STATE_BITS of LEFT/RIGHT state then its length in ticks as an Elias gamma code.
+ */
+class InputRuns
+{
+    static final int LEFT_BIT = 1;
+    static final int RIGHT_BIT = 2;
+    static final int STATE_BITS = 2;
+
+    private final BitOutput bits;
+    private int runState;
+    private int runLength;
+
+    InputRuns( BitOutput bits )
+    {
+        this.bits = bits;
+    }
+
+    static int stateOf( InputState input )
+    {
+        return ( input.isLeft( ) ? LEFT_BIT : 0 ) | ( input.isRight( ) ? RIGHT_BIT : 0 );
+    }
+
+    void record( InputState input )
+    {
+        int state = stateOf( input );
+
+        if ( runLength > 0 && state == runState ) {
+            runLength++;
+        } else {
+            flush( );
+            runState = state;
+            runLength = 1;
+        }
+    }
+
+    // writes out the run in progress, the next record starts a new one
+    void flush()
+    {
+        if ( runLength > 0 ) {
+            bits.writeBits( runState, STATE_BITS );
+            bits.writeGamma( runLength );
+            runLength = 0;
+        }
+    }
+
+    void clear()
+    {
+        runLength = 0;
+        bits.clear( );
+    }
+}
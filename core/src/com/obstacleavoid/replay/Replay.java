@@ -0,0 +1,116 @@
+package com.obstacleavoid.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * A recorded session: what GameSimulation needs to start the same game (seed, difficulty, tick length) and the input
+ * for every tick. The input is stored as runs, 2 bits of LEFT/RIGHT state then the run's length in ticks as an Elias
+ * gamma code, since held keys change far less often than once a tick. A minute of play is usually well under 1KB.
+ * <p>
+ * File layout, big endian: magic, version, seed, difficulty name, ticks per second, tick count, bit length, bits.
+ */
+public class Replay
+{
+    public static final String EXTENSION = "oar";
+
+    private static final int MAGIC = 0x4F415250; // "OARP"
+    // 2: obstacle spawning keeps the leftover time, version 1 input no longer plays back the same game
+    private static final int VERSION = 2;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final long seed;
+    private final GameDifficulty difficulty;
+    private final int ticksPerSecond;
+    private final int tickCount;
+    private final byte[] bits;
+    private final int bitLength;
+
+    Replay( long seed, GameDifficulty difficulty, int ticksPerSecond, int tickCount, byte[] bits, int bitLength )
+    {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.ticksPerSecond = ticksPerSecond;
+        this.tickCount = tickCount;
+        this.bits = bits;
+        this.bitLength = bitLength;
+    }
+
+    public static Replay read( FileHandle file )
+    {
+        try ( DataInputStream in = new DataInputStream( file.read( BUFFER_SIZE ) ) ) {
+            int magic = in.readInt( );
+            int version = in.readUnsignedByte( );
+            if ( magic != MAGIC || version != VERSION ) {
+                throw new GdxRuntimeException( "Not a version " + VERSION + " replay: " + file.path( ) );
+            }
+            long seed = in.readLong( );
+            GameDifficulty difficulty = GameDifficulty.valueOf( in.readUTF( ) );
+            int ticksPerSecond = in.readInt( );
+            int tickCount = in.readInt( );
+            int bitLength = in.readInt( );
+            byte[] bits = new byte[ ( bitLength + 7 ) >>> 3 ];
+            in.readFully( bits );
+            return new Replay( seed, difficulty, ticksPerSecond, tickCount, bits, bitLength );
+        } catch ( IOException e ) {
+            throw new GdxRuntimeException( "Could not read replay " + file.path( ), e );
+        }
+    }
+
+    public void write( FileHandle file )
+    {
+        try ( DataOutputStream out = new DataOutputStream( file.write( false, BUFFER_SIZE ) ) ) {
+            out.writeInt( MAGIC );
+            out.writeByte( VERSION );
+            out.writeLong( seed );
+            out.writeUTF( difficulty.name( ) );
+            out.writeInt( ticksPerSecond );
+            out.writeInt( tickCount );
+            out.writeInt( bitLength );
+            out.write( bits, 0, ( bitLength + 7 ) >>> 3 );
+        } catch ( IOException e ) {
+            throw new GdxRuntimeException( "Could not write replay " + file.path( ), e );
+        }
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public GameDifficulty getDifficulty()
+    {
+        return difficulty;
+    }
+
+    public int getTicksPerSecond()
+    {
+        return ticksPerSecond;
+    }
+
+    public int getTickCount()
+    {
+        return tickCount;
+    }
+
+    // size of the input stream in bytes, not counting the header
+    public int getInputBytes()
+    {
+        return ( bitLength + 7 ) >>> 3;
+    }
+
+    byte[] getBits()
+    {
+        return bits;
+    }
+
+    int getBitLength()
+    {
+        return bitLength;
+    }
+}
@@ -0,0 +1,169 @@
+package com.obstacleavoid.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * A replay for long sessions, written by ReplayArchiveWriter, read through a memory mapped buffer. Alongside the input
+ * it holds a full GameSimulation state every keyframe interval, so seek() only has to simulate from the keyframe
+ * before the wanted tick, at most one interval, however far into a multi hour session that is.
+ * <p>
+ * File layout, big endian: magic, version, seed, difficulty name, ticks per second, keyframe interval, then per
+ * keyframe its state size and state followed by the bit length and input bits up to the next keyframe. The footer is
+ * the tick count, keyframe count and per keyframe its tick, state offset, bits offset and bit length, then the footer
+ * offset and magic again. Offsets are ints, a mapped buffer cannot go past 2GB anyway.
+ */
+public class ReplayArchive
+{
+    public static final String EXTENSION = "oara";
+
+    static final int MAGIC = 0x4F415241; // "OARA"
+    // 2: obstacle spawning keeps the leftover time, seeking in a version 1 archive would not reach the recorded states
+    // 3: keyframe state holds the display score timer
+    static final int VERSION = 3;
+
+    private static final int TRAILER_BYTES = 8;
+    private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+    private final ByteBuffer buffer;
+    private final long seed;
+    private final GameDifficulty difficulty;
+    private final int ticksPerSecond;
+    private final int keyframeInterval;
+    private final int tickCount;
+
+    private final int[] keyframeTicks;
+    private final int[] stateOffsets;
+    private final int[] bitsOffsets;
+    private final int[] bitLengths;
+
+    private final GameSimulation simulation;
+    private final InputState input = new InputState( );
+    private int lastSeekSteps;
+
+    private ReplayArchive( ByteBuffer buffer, FileHandle file )
+    {
+        this.buffer = buffer;
+
+        int trailer = buffer.limit( ) - TRAILER_BYTES;
+        if ( trailer < 0 || buffer.getInt( 0 ) != MAGIC || buffer.getInt( trailer + 4 ) != MAGIC ) {
+            throw new GdxRuntimeException( "Not a complete replay archive: " + file.path( ) );
+        }
+
+        ByteBuffer header = buffer.duplicate( );
+        header.position( 4 );
+        int version = header.get( ) & 0xFF;
+        if ( version != VERSION ) {
+            throw new GdxRuntimeException( "Replay archive version " + version + " is not " + VERSION + ": " +
+                    file.path( ) );
+        }
+        seed = header.getLong( );
+        byte[] name = new byte[ header.getShort( ) & 0xFFFF ];
+        header.get( name );
+        difficulty = GameDifficulty.valueOf( new String( name, UTF_8 ) );
+        ticksPerSecond = header.getInt( );
+        keyframeInterval = header.getInt( );
+
+        ByteBuffer footer = buffer.duplicate( );
+        footer.position( buffer.getInt( trailer ) );
+        tickCount = footer.getInt( );
+        int keyframeCount = footer.getInt( );
+        if ( keyframeCount == 0 ) {
+            throw new GdxRuntimeException( "Replay archive has no ticks: " + file.path( ) );
+        }
+        keyframeTicks = new int[ keyframeCount ];
+        stateOffsets = new int[ keyframeCount ];
+        bitsOffsets = new int[ keyframeCount ];
+        bitLengths = new int[ keyframeCount ];
+        for ( int i = 0; i < keyframeCount; i++ ) {
+            keyframeTicks[ i ] = footer.getInt( );
+            stateOffsets[ i ] = footer.getInt( );
+            bitsOffsets[ i ] = footer.getInt( );
+            bitLengths[ i ] = footer.getInt( );
+        }
+
+        simulation = new GameSimulation( difficulty, seed );
+    }
+
+    // maps the whole file, only the pages actually seeked into get read
+    public static ReplayArchive open( FileHandle file )
+    {
+        ByteBuffer buffer = file.map( );
+        // FileHandle.map() uses native order, the file was written big endian by DataOutputStream
+        buffer.order( ByteOrder.BIG_ENDIAN );
+        return new ReplayArchive( buffer, file );
+    }
+
+    /**
+     * Puts the simulation in the state it had before stepping the given tick: getTickCount() is the end of the
+     * session. The same GameSimulation is returned by every call and changed by the next one.
+     */
+    public GameSimulation seek( int tick )
+    {
+        if ( tick < 0 || tick > tickCount ) {
+            throw new IllegalArgumentException( "tick " + tick + " is outside 0.." + tickCount );
+        }
+
+        int keyframe = Arrays.binarySearch( keyframeTicks, tick );
+        if ( keyframe < 0 ) {
+            keyframe = -keyframe - 2; // the one before the insertion point
+        }
+
+        ByteBuffer state = buffer.duplicate( );
+        state.position( stateOffsets[ keyframe ] );
+        simulation.readState( state );
+
+        lastSeekSteps = tick - keyframeTicks[ keyframe ];
+        ReplayInput replayInput = new ReplayInput(
+                new BitInput( buffer, bitsOffsets[ keyframe ], bitLengths[ keyframe ] ), lastSeekSteps );
+        float stepSeconds = 1f / ticksPerSecond;
+        while ( replayInput.next( input ) ) {
+            simulation.step( stepSeconds, input );
+        }
+        return simulation;
+    }
+
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public GameDifficulty getDifficulty()
+    {
+        return difficulty;
+    }
+
+    public int getTicksPerSecond()
+    {
+        return ticksPerSecond;
+    }
+
+    public int getKeyframeInterval()
+    {
+        return keyframeInterval;
+    }
+
+    public int getTickCount()
+    {
+        return tickCount;
+    }
+
+    public int getKeyframeCount()
+    {
+        return keyframeTicks.length;
+    }
+
+    // ticks simulated by the last seek, never more than the keyframe interval
+    public int getLastSeekSteps()
+    {
+        return lastSeekSteps;
+    }
+}
@@ -0,0 +1,148 @@
+package com.obstacleavoid.replay;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * Streams a session to a ReplayArchive file while it is played, or while a Replay is run through it. Every
+ * keyframeInterval ticks the whole simulation state is written, followed by the input of the ticks up to the next
+ * keyframe, so memory use stays flat however long the session runs. close() writes the index footer.
+ */
+public class ReplayArchiveWriter
+{
+    private static final int BUFFER_SIZE = 8192;
+    private static final int INITIAL_STATE_BYTES = 2048;
+    private static final int INITIAL_SEGMENT_BYTES = 256;
+
+    private final FileHandle file;
+    private final DataOutputStream out;
+    private final int keyframeInterval;
+
+    private ByteBuffer state = ByteBuffer.allocate( INITIAL_STATE_BYTES );
+    private final BitOutput bits = new BitOutput( INITIAL_SEGMENT_BYTES );
+    private final InputRuns runs = new InputRuns( bits );
+
+    // the index, one entry per keyframe
+    private final IntArray keyframeTicks = new IntArray( );
+    private final IntArray stateOffsets = new IntArray( );
+    private final IntArray bitsOffsets = new IntArray( );
+    private final IntArray bitLengths = new IntArray( );
+
+    private int tickCount;
+
+    public ReplayArchiveWriter( FileHandle file, long seed, GameDifficulty difficulty, int ticksPerSecond,
+                                int keyframeInterval )
+    {
+        if ( keyframeInterval <= 0 ) {
+            throw new IllegalArgumentException( "keyframeInterval must be > 0" );
+        }
+        this.file = file;
+        this.keyframeInterval = keyframeInterval;
+        this.out = new DataOutputStream( file.write( false, BUFFER_SIZE ) );
+
+        try {
+            out.writeInt( ReplayArchive.MAGIC );
+            out.writeByte( ReplayArchive.VERSION );
+            out.writeLong( seed );
+            out.writeUTF( difficulty.name( ) );
+            out.writeInt( ticksPerSecond );
+            out.writeInt( keyframeInterval );
+        } catch ( IOException e ) {
+            throw failed( e );
+        }
+    }
+
+    /**
+     * Call before stepping each tick, with the simulation as it is before the step and the input it is stepped with.
+     */
+    public void record( GameSimulation simulation, InputState input )
+    {
+        if ( tickCount % keyframeInterval == 0 ) {
+            endSegment( );
+            writeKeyframe( simulation );
+        }
+        runs.record( input );
+        tickCount++;
+    }
+
+    public int getTickCount()
+    {
+        return tickCount;
+    }
+
+    // ends the last segment and writes the index, the archive can be opened after this
+    public void close()
+    {
+        try {
+            endSegment( );
+
+            int footerOffset = out.size( );
+            out.writeInt( tickCount );
+            out.writeInt( keyframeTicks.size );
+            for ( int i = 0; i < keyframeTicks.size; i++ ) {
+                out.writeInt( keyframeTicks.get( i ) );
+                out.writeInt( stateOffsets.get( i ) );
+                out.writeInt( bitsOffsets.get( i ) );
+                out.writeInt( bitLengths.get( i ) );
+            }
+            out.writeInt( footerOffset );
+            out.writeInt( ReplayArchive.MAGIC );
+            out.close( );
+        } catch ( IOException e ) {
+            throw failed( e );
+        }
+    }
+
+    // private
+
+    private void writeKeyframe( GameSimulation simulation )
+    {
+        int size = simulation.getStateSize( );
+        if ( state.capacity( ) < size ) {
+            state = ByteBuffer.allocate( Math.max( size, state.capacity( ) * 2 ) );
+        }
+        state.clear( );
+        simulation.writeState( state );
+
+        try {
+            out.writeInt( state.position( ) );
+            keyframeTicks.add( tickCount );
+            stateOffsets.add( out.size( ) );
+            out.write( state.array( ), 0, state.position( ) );
+        } catch ( IOException e ) {
+            throw failed( e );
+        }
+    }
+
+    // the input since the last keyframe, every segment starts its runs afresh so it can be read on its own
+    private void endSegment()
+    {
+        if ( keyframeTicks.size == bitsOffsets.size ) {
+            return; // no keyframe yet, or this segment is already written
+        }
+        runs.flush( );
+
+        try {
+            out.writeInt( bits.getBitLength( ) );
+            bitsOffsets.add( out.size( ) );
+            bitLengths.add( bits.getBitLength( ) );
+            out.write( bits.getBytes( ), 0, bits.getByteLength( ) );
+        } catch ( IOException e ) {
+            throw failed( e );
+        }
+        runs.clear( );
+    }
+
+    private GdxRuntimeException failed( IOException e )
+    {
+        return new GdxRuntimeException( "Could not write replay archive " + file.path( ), e );
+    }
+}
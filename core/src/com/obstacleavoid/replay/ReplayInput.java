@@ -0,0 +1,51 @@
+package com.obstacleavoid.replay;
+
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * Plays a Replay's input back one tick at a time.
+ */
+public class ReplayInput
+{
+    private final BitInput bits;
+    private int remainingTicks;
+
+    private int runState;
+    private int runRemaining;
+
+    public ReplayInput( Replay replay )
+    {
+        this( new BitInput( replay.getBits( ), replay.getBitLength( ) ), replay.getTickCount( ) );
+    }
+
+    ReplayInput( BitInput bits, int ticks )
+    {
+        this.bits = bits;
+        this.remainingTicks = ticks;
+    }
+
+    /**
+     * Sets the input for the next tick.
+     *
+     * @return false, leaving input unchanged, once every recorded tick has been played.
+     */
+    public boolean next( InputState input )
+    {
+        if ( remainingTicks == 0 ) {
+            return false;
+        }
+        if ( runRemaining == 0 ) {
+            runState = bits.readBits( InputRuns.STATE_BITS );
+            runRemaining = bits.readGamma( );
+        }
+        runRemaining--;
+        remainingTicks--;
+        input.set( ( runState & InputRuns.LEFT_BIT ) != 0, ( runState & InputRuns.RIGHT_BIT ) != 0 );
+        return true;
+    }
+
+    public int getRemainingTicks()
+    {
+        return remainingTicks;
+    }
+}
@@ -0,0 +1,32 @@
+package com.obstacleavoid.replay;
+
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+import com.obstacleavoid.simulation.PlayerController;
+
+/**
+ * Plays a recorded Replay's input, for watching it in the game. Step a GameSimulation created from the replay's seed
+ * and difficulty with it. Once the recording runs out the player stands still.
+ */
+public class ReplayPlayerController implements PlayerController
+{
+    private final ReplayInput replayInput;
+
+    public ReplayPlayerController( Replay replay )
+    {
+        this.replayInput = new ReplayInput( replay );
+    }
+
+    @Override
+    public void update( GameSimulation simulation, InputState input )
+    {
+        if ( !replayInput.next( input ) ) {
+            input.clear( );
+        }
+    }
+
+    public boolean isFinished()
+    {
+        return replayInput.getRemainingTicks( ) == 0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.obstacleavoid.replay;
+
+import java.util.Arrays;
+
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * Collects the input of each simulation tick as it is stepped. Recording a tick only appends bits when the input
+ * changes, nothing is allocated unless the bit buffer has to grow.
+ */
+public class ReplayRecorder
+{
+    private static final int INITIAL_BYTES = 256;
+
+    private final BitOutput bits = new BitOutput( INITIAL_BYTES );
+    private final InputRuns runs = new InputRuns( bits );
+
+    private long seed;
+    private GameDifficulty difficulty;
+    private int ticksPerSecond;
+    private int tickCount;
+
+    public ReplayRecorder(){}
+
+    public void start( long seed, GameDifficulty difficulty, int ticksPerSecond )
+    {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.ticksPerSecond = ticksPerSecond;
+        tickCount = 0;
+        runs.clear( );
+    }
+
+    // call once per tick with the input that tick is stepped with
+    public void record( InputState input )
+    {
+        runs.record( input );
+        tickCount++;
+    }
+
+    public int getTickCount()
+    {
+        return tickCount;
+    }
+
+    /**
+     * @return everything recorded since start(), recording can carry on afterwards.
+     */
+    public Replay finish()
+    {
+        runs.flush( );
+        byte[] bytes = Arrays.copyOf( bits.getBytes( ), bits.getByteLength( ) );
+        return new Replay( seed, difficulty, ticksPerSecond, tickCount, bytes, bits.getBitLength( ) );
+    }
+}
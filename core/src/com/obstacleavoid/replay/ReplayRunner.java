@@ -0,0 +1,72 @@
+package com.obstacleavoid.replay;
+
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+
+/**
+ * Steps a replay through a new GameSimulation as fast as it will go, no frame timing, rendering or Gdx needed.
+ */
+public class ReplayRunner
+{
+    private final Replay replay;
+    private final InputState input = new InputState( );
+
+    private int ticks;
+    private int hits;
+    private long nanos;
+
+    public ReplayRunner( Replay replay )
+    {
+        this.replay = replay;
+    }
+
+    /**
+     * @return the simulation as it was after the last recorded tick, or at game over.
+     */
+    public GameSimulation run()
+    {
+        return run( null );
+    }
+
+    /**
+     * As run(), also writing each tick to archive, which is left open.
+     */
+    public GameSimulation run( ReplayArchiveWriter archive )
+    {
+        GameSimulation simulation = new GameSimulation( replay.getDifficulty( ), replay.getSeed( ) );
+        ReplayInput replayInput = new ReplayInput( replay );
+        float stepSeconds = 1f / replay.getTicksPerSecond( );
+
+        ticks = 0;
+        hits = 0;
+        long start = System.nanoTime( );
+
+        while ( !simulation.isGameOver( ) && replayInput.next( input ) ) {
+            if ( archive != null ) {
+                archive.record( simulation, input );
+            }
+            if ( simulation.step( stepSeconds, input ) ) {
+                hits++;
+            }
+            ticks++;
+        }
+
+        nanos = System.nanoTime( ) - start;
+        return simulation;
+    }
+
+    public int getTicks()
+    {
+        return ticks;
+    }
+
+    public int getHits()
+    {
+        return hits;
+    }
+
+    public long getNanos()
+    {
+        return nanos;
+    }
+}
@@ -1,51 +1,76 @@
 package com.obstacleavoid.screen.game;
 
 
-import static com.obstacleavoid.config.GameConfig.OBSTACLE_SIZE;
-import static com.obstacleavoid.config.GameConfig.PLAYER_SCORES_AFTER;
-
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.scenes.scene2d.ui.Image;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Logger;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.Pools;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.obstacleavoid.ObstacleAvoidGame;
 import com.obstacleavoid.assets.AssetDescriptors;
+import com.obstacleavoid.audio.AudioManager;
+import com.obstacleavoid.audio.SoundEffect;
 import com.obstacleavoid.assets.RegionNames;
 import com.obstacleavoid.common.GameManager;
 import com.obstacleavoid.config.GameConfig;
 import com.obstacleavoid.config.GameDifficulty;
-import com.obstacleavoid.entity.ObstacleActor;
+import com.obstacleavoid.config.LaunchOptions;
+import com.obstacleavoid.net.ScoreSubmitter;
 import com.obstacleavoid.entity.PlayerActor;
-import com.obstacleavoid.screen.menu.MenuScreen;
+import com.obstacleavoid.replay.Replay;
+import com.obstacleavoid.replay.ReplayPlayerController;
+import com.obstacleavoid.replay.ReplayRecorder;
+import com.obstacleavoid.simulation.DodgeBot;
+import com.obstacleavoid.simulation.FixedTimestep;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+import com.obstacleavoid.simulation.ObstacleStore;
+import com.obstacleavoid.simulation.PlayerController;
+import com.obstacleavoid.simulation.StressRamp;
 import com.obstacleavoid.util.GdxUtils;
 import com.obstacleavoid.util.ViewportUtils;
+import com.obstacleavoid.util.debug.AllocationOverlay;
+import com.obstacleavoid.util.debug.DebugGrid;
+import com.obstacleavoid.util.debug.AllocationTracker;
 import com.obstacleavoid.util.debug.DebugCameraController;
+import com.obstacleavoid.util.debug.FramePhase;
+import com.obstacleavoid.util.debug.FrameProfiler;
+import com.obstacleavoid.util.debug.StatsText;
+import com.obstacleavoid.util.debug.StressReport;
 
 
-/* As when using stage it is not possible to not mix model and view, this class will be a mix of view
-(formerly GameRenderer)  and control (formerlyGameController) meaning this can be a v large class..
+/* Game logic lives in GameSimulation, this class feeds it keyboard input, steps it at the fixed tick rate and copies
+its state, interpolated between the last two ticks, onto the stage actors for drawing.
  */
 public class GameScreen extends ScreenAdapter {
     private static final Logger LOG = new Logger(GameScreen.class.getName(),Logger.DEBUG);
+    private static final float ALLOCATION_GRAPH_HEIGHT = 150f;
+    // StatsText lines
+    private static final int STAT_OBSTACLES = 0;
+    private static final int STAT_STORE_FREE = 1;
+    private static final int STAT_STORE_PEAK = 2;
+    private static final int STAT_STORE_GROWS = 3;
+    private static final int STAT_OBSTACLE_DRAW_CALLS = 4;
+    private static final int STAT_STAGE_ACTORS = 5;
+    private static final int STAT_SUBMIT_QUEUE = 6;
+    private static final int STAT_SUBMIT_MS = 7;
     private final ObstacleAvoidGame game;
     private AssetManager assetManager;
     private final SpriteBatch batch;
-    private final GlyphLayout layout = new GlyphLayout();
     private OrthographicCamera camera;
     private Viewport viewport;
     private Stage gameStage;
@@ -53,37 +78,63 @@ public class GameScreen extends ScreenAdapter {
     private OrthographicCamera uiCamera;
     private Viewport uiViewport;
     private BitmapFont font;
-    private float obstacleTimer;
-    private float scoreTimer;
-    private int lives = GameConfig.PLAYER_INITIAL_LIVES;
-    private int score;
-    private int displayScore;
-
-    private float startPlayerX = (GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE) / 2f;
-    private float startPlayerY = GameConfig.PLAYER_SIZE / 2f;
+    private final HudText livesText;
+    private final HudText scoreText;
+
+    private GameSimulation simulation;
+    private final InputState inputState = new InputState();
+    private final FixedTimestep timestep =
+            new FixedTimestep(GameConfig.SIMULATION_TICKS_PER_SECOND, GameConfig.MAX_SIMULATION_TICKS_PER_FRAME);
+    private final ReplayRecorder replayRecorder = new ReplayRecorder();
+    private final LaunchOptions launchOptions;
+    private final AudioManager audioManager;
+    private PlayerController controller;
+    private ReplayPlayerController replayController; // only when watching a replay
+    private GameDifficulty difficulty;
+    private int ticks;
+    private boolean recording;
+    // stress test only
+    private StressRamp stressRamp;
+    private StressReport stressReport;
+    // set on game over, switched to at the end of the frame so nothing is drawn with a disposed stage
+    private Screen nextScreen;
 
     private TextureAtlas gamePlayAtlas;
     private TextureRegion obstacleRegion;
     private TextureRegion backgroundRegion;
-    private Sound crashSound;
 
     private DebugCameraController debugCameraController;
-
-    private Pool<ObstacleActor> obstaclePool = Pools.get(ObstacleActor.class);
-    private final Array<ObstacleActor> obstacles = new Array<>();
-    private ObstacleActor obstacle;
+    private DebugGrid debugGrid;
+    private boolean debugRender = true; // grid and stage debug lines, F3
+    private final AllocationTracker allocationTracker;
+    private final AllocationOverlay allocationOverlay;
+    private final FrameProfiler frameProfiler;
+    private final StatsText statsText;
+
+    private ObstacleRenderer obstacleRenderer;
+    private float alpha; // interpolation between the last two ticks for this frame
+    private int obstacleRenderCalls;
     private PlayerActor player;
-    private Image backgroundImage;
-
-    // 19 fields!
+    // the background never changes, so its quad is uploaded once and drawn from there
+    private SpriteCache backgroundCache;
+    private int backgroundCacheId;
 
     public GameScreen(ObstacleAvoidGame game) {
         this.game = game;
         this.assetManager = game.getAssetManager();
         this.gamePlayAtlas = assetManager.get(AssetDescriptors.GAMEPLAY_ATlAS);
         this.font = assetManager.get(AssetDescriptors.UI_FONT_32);
-        this.crashSound = assetManager.get(AssetDescriptors.CRASH_WAV);
+        this.livesText = new HudText(font, "LIVES ");
+        this.scoreText = new HudText(font, "SCORE ");
+        this.allocationTracker = new AllocationTracker(game.getAllocationSampler());
+        this.allocationOverlay = new AllocationOverlay(font);
+        this.frameProfiler = game.getFrameProfiler();
+        this.statsText = new StatsText(font, "OBSTACLES ", "STORE FREE ", "STORE PEAK ", "STORE GROWS ",
+                "OBSTACLE DRAW CALLS ",
+                "STAGE ACTORS ", "SUBMIT QUEUE ", "SUBMIT MS ");
+        this.audioManager = game.getAudioManager();
         this.batch = game.getSpriteBatch();
+        this.launchOptions = game.getLaunchOptions();
     }
 
     //
@@ -95,7 +146,7 @@ public class GameScreen extends ScreenAdapter {
         viewport = new FitViewport(GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT, camera);
 
         gameStage = new Stage(viewport, batch);
-        gameStage.setDebugAll(true); // we want debug renders for everything in this stage.
+        debugGrid = new DebugGrid();
         renderer = new ShapeRenderer();
         uiCamera = new OrthographicCamera();
         uiViewport = new FitViewport(GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT, uiCamera);
@@ -104,16 +155,50 @@ public class GameScreen extends ScreenAdapter {
         debugCameraController.setStartPosition(GameConfig.WORLD_CENTER_X, GameConfig.WORLD_CENTER_Y);
         obstacleRegion = gamePlayAtlas.findRegion(RegionNames.OBSTACLE);
         backgroundRegion = gamePlayAtlas.findRegion(RegionNames.BACKGROUND);
-
-        backgroundImage = new Image(backgroundRegion);
-        backgroundImage.setSize(GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT);
+        obstacleRenderer = new ObstacleRenderer(obstacleRegion);
+
+        backgroundCache = new SpriteCache(1, false);
+        backgroundCache.beginCache();
+        backgroundCache.add(backgroundRegion, 0f, 0f, GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT);
+        backgroundCacheId = backgroundCache.endCache();
+
+        // logged so a session can be reproduced, same seed + difficulty + input = same game
+        long seed;
+        if (launchOptions.getReplayPath() != null) {
+            Replay replay = Replay.read(Gdx.files.absolute(launchOptions.getReplayPath()));
+            seed = replay.getSeed();
+            difficulty = replay.getDifficulty();
+            replayController = new ReplayPlayerController(replay);
+            controller = replayController;
+        } else {
+            seed = MathUtils.random.nextLong();
+            difficulty = GameManager.INSTANCE.getGameDifficulty();
+            controller = launchOptions.isBot() ? new DodgeBot() : new KeyboardPlayerController();
+        }
+        simulation = new GameSimulation(difficulty, seed, game.getObstacleStore());
+
+        if (launchOptions.isStress() || GameManager.INSTANCE.isStressTest()) {
+            // nobody could survive it, and a replay would not know about the ramp
+            stressRamp = new StressRamp();
+            stressReport = new StressReport();
+            simulation.setInvulnerable(true);
+            allocationTracker.setEnabled(true);
+            debugRender = false; // measure the game, not the debug lines
+            LOG.info("Stress test, ESCAPE to stop");
+        } else if (replayController == null && !launchOptions.isBot()) {
+            // a soak plays for hours, a file per bot session would be disk growth in the run looking for leaks
+            replayRecorder.start(seed, difficulty, GameConfig.SIMULATION_TICKS_PER_SECOND);
+            recording = true;
+        }
+        LOG.info("Session seed = " + seed + " difficulty = " + difficulty + " controller = "
+                + controller.getClass().getSimpleName());
 
         // Player Actor
         player = new PlayerActor();
         player.setRegion(gamePlayAtlas.findRegion(RegionNames.PLAYER));
-        player.setPosition(startPlayerX, startPlayerY);
-        gameStage.addActor(backgroundImage);
+        player.setPosition(simulation.getPlayer().getX(), simulation.getPlayer().getY());
         gameStage.addActor(player);
+        gameStage.setDebugAll(debugRender); // we want debug renders for everything in this stage.
     }
 
     //
@@ -122,10 +207,24 @@ public class GameScreen extends ScreenAdapter {
 
         // handle debug camera input (all controls)
         debugCameraController.handleDebugInput(delta);
+        if (debugCameraController.isAllocationOverlayTogglePressed()) {
+            allocationTracker.toggle();
+        }
+        if (debugCameraController.isDebugRenderTogglePressed()) {
+            debugRender = !debugRender;
+            gameStage.setDebugAll(debugRender);
+        }
         // configure to camera:
         debugCameraController.applyTo(camera);
+
+        frameProfiler.beginFrame();
+        allocationTracker.beginFrame();
+
+        beginPhase(FramePhase.UPDATE);
         update(delta);
+        endPhase(FramePhase.UPDATE);
 
+        beginPhase(FramePhase.GAMEPLAY_RENDER);
         // Clear
         GdxUtils.clearScreen();
 
@@ -133,80 +232,108 @@ public class GameScreen extends ScreenAdapter {
         viewport.apply();
         // render gameplay
         renderGamePlay();
+        endPhase(FramePhase.GAMEPLAY_RENDER);
 
+        beginPhase(FramePhase.UI_RENDER);
         // use UI viewport:
         uiViewport.apply();
         // render UI
         renderUi();
+        endPhase(FramePhase.UI_RENDER);
 
+        beginPhase(FramePhase.DEBUG_RENDER);
         // use gameplay viewport:
         viewport.apply();
         // render debug
         renderDebug();
+        endPhase(FramePhase.DEBUG_RENDER);
 
-    }
-
-    private void update(float delta) {
+        allocationTracker.endFrame();
+        frameProfiler.endFrame();
 
-        if (isPlayerCollidingWithObstacle(player)) {
-            LOG.debug("Collision detected");
-            crashSound.play();
-            lives--;
-            if (isGameOver()) {
-                LOG.debug("Game Over");
-                GameManager.INSTANCE.updateHighScore(score);
-                game.setScreen(new MenuScreen(game));
-            } else {
-                restart();
-            }
+        // drawn outside the measured phases so it does not show up in its own graph
+        if (allocationTracker.isEnabled()) {
+            uiViewport.apply();
+            renderAllocationOverlay();
         }
 
-        if (!isGameOver()) {
-            updateScore(delta);
-            updateDisplayScore(delta);
+        if (nextScreen != null) {
+            game.setScreen(nextScreen);
         }
+    }
 
-        createNewObstacleAddToStage(delta);
-        removePassedObstacles();
+    // allocation sampling inside the timing, so the profiler does not time the sampler
+    private void beginPhase(FramePhase phase) {
+        frameProfiler.begin(phase);
+        allocationTracker.begin(phase);
     }
 
-    private void removePassedObstacles() {
-        if (obstacles.size > 0) {
-            ObstacleActor first = obstacles.first();
+    private void endPhase(FramePhase phase) {
+        allocationTracker.end(phase);
+        frameProfiler.end(phase);
+    }
 
-            float minY = -first.getWidth();
+    private void update(float delta) {
+        if (nextScreen != null) {
+            return;
+        }
+
+        if (stressRamp != null && Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
+            nextScreen = game.getMenuScreen();
+            return;
+        }
 
-            if (first.getY() <= minY) {
-                obstacles.removeValue(first, true);
+        int steps = timestep.advance(delta);
 
-                // removes any actor from its parent BUT not immediate
-                first.remove();
-                // return to pool
-                obstaclePool.free(first);
+        for (int i = 0; i < steps; i++) {
+            controller.update(simulation, inputState);
+            if (recording) {
+                replayRecorder.record(inputState);
+            }
+            if (stressRamp != null) {
+                simulation.setSpawnEvery(stressRamp.getSpawnEvery(ticks * timestep.getStepSeconds()));
+            }
+            ticks++;
+            if (simulation.step(timestep.getStepSeconds(), inputState)) {
+                // only asked for here, every hit this frame is one sound played after the frame is drawn
+                audioManager.play(SoundEffect.CRASH);
+                if (stressRamp != null) {
+                    continue; // hits are constant and harmless
+                }
+                LOG.debug("Collision detected");
+                if (simulation.isGameOver()) {
+                    LOG.debug("Game Over");
+                    nextScreen = gameOverScreen();
+                    return;
+                }
             }
         }
-    }
-
-    private void createNewObstacleAddToStage(float delta) {
-        obstacleTimer += delta;
 
-        if (obstacleTimer >= GameConfig.OBSTACLES_SPAWN_EVERY) {
-            float min = 0;
-            float max = GameConfig.WORLD_WIDTH - OBSTACLE_SIZE;
-            float obstacleX = MathUtils.random(min, max);
+        if (replayController != null && replayController.isFinished()) {
+            nextScreen = game.getMenuScreen();
+        }
 
-            float obstacleY = GameConfig.WORLD_HEIGHT;
+        alpha = timestep.getAlpha();
+        player.setPosition(simulation.getPlayer().getInterpolatedX(alpha), simulation.getPlayer().getY());
 
-            ObstacleActor obstacle = obstaclePool.obtain();
-            GameDifficulty difficultyLevel = GameManager.INSTANCE.getGameDifficulty();
-            obstacle.setYSpeed(difficultyLevel.getObjectSpeed());
-            obstacle.setPosition(obstacleX, obstacleY);
-            obstacle.setRegion(obstacleRegion);
+        if (stressReport != null) {
+            stressReport.frame(delta, simulation.getSpawnEvery(), simulation.getObstacles(),
+                    gameStage.getActors().size, obstacleRenderCalls);
+        }
+    }
 
-            obstacles.add(obstacle);
-            gameStage.addActor(obstacle);
-            obstacleTimer = 0f;
+    private Screen gameOverScreen() {
+        if (launchOptions.isBot()) {
+            // soak testing, straight into the next game through a new screen, as a player would get there
+            return new GameScreen(game);
+        }
+        if (replayController == null) {
+            int durationMillis = (int) (ticks * 1000L / GameConfig.SIMULATION_TICKS_PER_SECOND);
+            int rank = GameManager.INSTANCE.recordSession(simulation.getScore(), difficulty, durationMillis,
+                    simulation.getSeed());
+            LOG.debug("Leaderboard rank " + rank);
         }
+        return game.getMenuScreen();
     }
 
 
@@ -220,19 +347,70 @@ public class GameScreen extends ScreenAdapter {
 
     }
 
+    // the app may be killed from here without hide(), keep the replay so far
+    @Override
+    public void pause() {
+        saveReplay();
+    }
+
+    @Override
+    public void hide() {
+        // menus are not profiled, the time away is not a frame interval
+        frameProfiler.pause();
+        frameProfiler.logSummary();
+        saveReplay();
+        if (launchOptions.isBot()) {
+            game.getSoakMonitor().sessionEnded(ticks, gameStage.getActors().size, assetManager,
+                    simulation.getObstacles());
+        }
+        dispose();
+    }
+
+    private void saveReplay() {
+        if (!recording || replayRecorder.getTickCount() == 0) {
+            return;
+        }
+        Replay replay = replayRecorder.finish();
+        FileHandle file = Gdx.files.local(GameConfig.REPLAY_DIRECTORY + "replay-" + replay.getSeed() + "."
+                + Replay.EXTENSION);
+        try {
+            replay.write(file);
+            LOG.info("Replay of " + replay.getTickCount() + " ticks written to " + file.path() + " ("
+                    + replay.getInputBytes() + " bytes of input)");
+        } catch (GdxRuntimeException e) {
+            // losing a replay is no reason to stop the game
+            LOG.error("Could not save replay", e);
+        }
+    }
+
+    // the batch is the game's, only what show() created goes here
     @Override
     public void dispose() {
-        batch.dispose();
+        gameStage.dispose();
+        renderer.dispose();
+        backgroundCache.dispose();
+        debugGrid.dispose();
     }
 
     // private
     private void renderGamePlay() {
+        backgroundCache.setProjectionMatrix(camera.combined);
+        backgroundCache.begin();
+        backgroundCache.draw(backgroundCacheId);
+        backgroundCache.end();
+
         batch.setProjectionMatrix(camera.combined);
 
-        // just 1 render call
+        // player
         gameStage.act();
         gameStage.draw();
 
+        // obstacles on top, straight from the simulation, the stage never sees them
+        batch.begin();
+        obstacleRenderer.draw(batch, simulation.getObstacles(), alpha);
+        batch.end();
+        obstacleRenderCalls = batch.renderCalls;
+
     }
 
 
@@ -241,20 +419,13 @@ public class GameScreen extends ScreenAdapter {
 
         batch.begin();
 
-        //create LIVES text
-        String livesText = "LIVES " + lives;
-        //add text to layout
-        layout.setText(font, livesText);
-        // use BitMapFont to draw itself with a SpriteBatch and layout and position from bottom left
-        font.draw(batch, layout, GameConfig.HUD_PADDING, GameConfig.HUD_HEIGHT - layout.height);
+        // LIVES text, only laid out again when the value changes. Position from bottom left
+        livesText.setValue(simulation.getLives());
+        livesText.draw(batch, GameConfig.HUD_PADDING, GameConfig.HUD_HEIGHT - livesText.getHeight());
 
-
-        //create SCORE text
-        String scoreText = "SCORE " + score;
-        //add text to layout
-        layout.setText(font, scoreText);
-        // use BitMapFont to draw itself with a SpriteBatch and layout and position from bottom left
-        font.draw(batch, layout, GameConfig.HUD_WIDTH - (layout.width + GameConfig.HUD_PADDING), GameConfig.HUD_HEIGHT - layout.height);
+        // SCORE text
+        scoreText.setValue(simulation.getScore());
+        scoreText.draw(batch, GameConfig.HUD_WIDTH - (scoreText.getWidth() + GameConfig.HUD_PADDING), GameConfig.HUD_HEIGHT - scoreText.getHeight());
 
 
         batch.end();
@@ -262,53 +433,39 @@ public class GameScreen extends ScreenAdapter {
     }
 
     private void renderDebug() {
-        ViewportUtils.drawGrid(viewport, renderer);
-
-    }
-
-    // Game Logic (Now mixed in with rendering class);
-
-    private void restart() {
-
-        // If you use libGDX iterator with while can be implemented in earlier way.
-        obstaclePool.freeAll(obstacles);
-        obstacles.clear();
-        gameStage.clear();
-        gameStage.addActor(backgroundImage);
-        gameStage.addActor(player);
-
-        player.setPosition(startPlayerX, startPlayerY);
-
-    }
-
-    public boolean isGameOver() {
-        return lives <= 0;
-    }
-
-    private void updateScore( float delta ) {
-        scoreTimer += delta;
-
-        if (scoreTimer >= PLAYER_SCORES_AFTER ) {
-            score += MathUtils.random( 1, 5 );
-            scoreTimer = 0.0f;
+        if (debugRender) {
+            debugGrid.draw(viewport);
         }
-    }
 
-    private void updateDisplayScore( float delta ) {
-        if (displayScore < score) {
-            displayScore =  Math.min( score,  displayScore + (int) (80 * delta) );
-        }
     }
 
-    private boolean isPlayerCollidingWithObstacle( PlayerActor player )
-    {
-
-        for ( ObstacleActor ob : obstacles ) {
-            if ( ob.notHitAlready() && ob.isPlayerColliding( player ) ) {
-                return true;
-            }
+    private void renderAllocationOverlay() {
+        float x = GameConfig.HUD_PADDING;
+        float y = GameConfig.HUD_PADDING;
+        float width = GameConfig.HUD_WIDTH - 2 * GameConfig.HUD_PADDING;
+
+        renderer.setProjectionMatrix(uiCamera.combined);
+        allocationOverlay.drawGraph(renderer, allocationTracker, x, y, width, ALLOCATION_GRAPH_HEIGHT);
+
+        ObstacleStore store = simulation.getObstacles();
+        statsText.setValue(STAT_OBSTACLES, store.size());
+        statsText.setValue(STAT_STORE_FREE, store.getPooledCount());
+        statsText.setValue(STAT_STORE_PEAK, store.getPeakSize());
+        statsText.setValue(STAT_STORE_GROWS, store.getGrowCount());
+        statsText.setValue(STAT_OBSTACLE_DRAW_CALLS, obstacleRenderCalls);
+        statsText.setValue(STAT_STAGE_ACTORS, gameStage.getActors().size);
+        ScoreSubmitter scoreSubmitter = GameManager.INSTANCE.getScoreSubmitter();
+        if (scoreSubmitter != null) {
+            statsText.setValue(STAT_SUBMIT_QUEUE, scoreSubmitter.getQueueDepth());
+            statsText.setValue(STAT_SUBMIT_MS, (int) scoreSubmitter.getLastLatencyMillis());
         }
-        return false;
+
+        batch.setProjectionMatrix(uiCamera.combined);
+        batch.begin();
+        allocationOverlay.drawLabels(batch, allocationTracker, x, y, ALLOCATION_GRAPH_HEIGHT);
+        // above the graph legend and the max line
+        statsText.draw(batch, x, GameConfig.HUD_HEIGHT / 2f);
+        batch.end();
     }
 
 }
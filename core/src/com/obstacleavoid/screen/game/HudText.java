@@ -0,0 +1,82 @@
+package com.obstacleavoid.screen.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * A fixed label followed by an int, e.g. "SCORE 42". The text is rebuilt in place and the glyphs laid out again only
+ * when the value or colour changes, so drawing an unchanged value every frame creates no garbage.
+ * <p>
+ * The colour goes into the layout, BitmapFont.setColor() before draw() does not change it.
+ */
+public class HudText
+{
+    private final BitmapFont font;
+    private final String label;
+    private final StringBuilder text = new StringBuilder( 32 );
+    private final GlyphLayout layout = new GlyphLayout( );
+    private final Color color = new Color( );
+
+    private int value;
+    private boolean laidOut;
+    private int layoutCount;
+
+    public HudText( BitmapFont font, String label )
+    {
+        this.font = font;
+        this.label = label;
+        color.set( font.getColor( ) );
+    }
+
+    // takes effect with the next setValue()
+    public void setColor( Color color )
+    {
+        if ( !this.color.equals( color ) ) {
+            this.color.set( color );
+            laidOut = false;
+        }
+    }
+
+    public void setValue( int value )
+    {
+        if ( laidOut && value == this.value ) {
+            return;
+        }
+        this.value = value;
+
+        text.setLength( 0 );
+        text.append( label ).append( value );
+        layout.setText( font, text, 0, text.length( ), color, 0, Align.left, false, null );
+        laidOut = true;
+        // the only place anything can be allocated, StringBuilder growth or GlyphLayout runs
+        layoutCount++;
+    }
+
+    // position from bottom left, as BitmapFont.draw
+    public void draw( Batch batch, float x, float y )
+    {
+        font.draw( batch, layout, x, y );
+    }
+
+    public float getWidth()
+    {
+        return layout.width;
+    }
+
+    public float getHeight()
+    {
+        return layout.height;
+    }
+
+    /**
+     * Times the text has been rebuilt and laid out, the count of possibly allocating updates. In steady state it only
+     * goes up when the value changes.
+     */
+    public int getLayoutCount()
+    {
+        return layoutCount;
+    }
+}
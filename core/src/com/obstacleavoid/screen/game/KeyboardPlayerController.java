@@ -0,0 +1,18 @@
+package com.obstacleavoid.screen.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+import com.obstacleavoid.simulation.PlayerController;
+
+// the arrow keys, as PlayerActor used to read them
+public class KeyboardPlayerController implements PlayerController
+{
+    @Override
+    public void update( GameSimulation simulation, InputState input )
+    {
+        // right wins if both are held, as it always has
+        input.set( Gdx.input.isKeyPressed( Input.Keys.LEFT ), Gdx.input.isKeyPressed( Input.Keys.RIGHT ) );
+    }
+}
@@ -0,0 +1,32 @@
+package com.obstacleavoid.screen.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.obstacleavoid.simulation.ObstacleStore;
+
+/**
+ * Draws every obstacle straight from the ObstacleStore arrays, one untransformed quad each, in a single pass over
+ * one texture region. No actors, no scene2d tree walk, nothing per obstacle to keep in step with the simulation.
+ */
+public class ObstacleRenderer
+{
+    private final TextureRegion region;
+
+    public ObstacleRenderer( TextureRegion region )
+    {
+        this.region = region;
+    }
+
+    /**
+     * Call between batch.begin() and end(), with the world projection set.
+     *
+     * @param alpha how far between the last two ticks to draw, see FixedTimestep.getAlpha().
+     */
+    public void draw( Batch batch, ObstacleStore obstacles, float alpha )
+    {
+        for ( int i = 0; i < obstacles.size( ); i++ ) {
+            float size = 2f * obstacles.getRadius( i );
+            batch.draw( region, obstacles.getX( i ), obstacles.getInterpolatedY( i, alpha ), size, size );
+        }
+    }
+}
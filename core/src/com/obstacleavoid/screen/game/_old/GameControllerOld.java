@@ -77,7 +77,7 @@ public class GameControllerOld
             lives--;
             if ( isGameOver( ) ) {
                 LOG.debug( "Game Over" );
-                GameManager.INSTANCE.updateHighScore( score );
+                GameManager.INSTANCE.recordSession( score, GameManager.INSTANCE.getGameDifficulty( ), 0, 0 );
             } else {
                 restart( );
             }
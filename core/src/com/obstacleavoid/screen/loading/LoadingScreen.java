@@ -1,6 +1,7 @@
 package com.obstacleavoid.screen.loading;
 
 import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -9,8 +10,9 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.obstacleavoid.ObstacleAvoidGame;
 import com.obstacleavoid.assets.AssetDescriptors;
+import com.obstacleavoid.common.GameManager;
 import com.obstacleavoid.config.GameConfig;
-import com.obstacleavoid.screen.menu.MenuScreen;
+import com.obstacleavoid.screen.game.GameScreen;
 import com.obstacleavoid.util.GdxUtils;
 
 public class LoadingScreen extends ScreenAdapter
@@ -18,14 +20,15 @@ public class LoadingScreen extends ScreenAdapter
     private static final Logger LOG = new Logger(LoadingScreen.class.getName(), Logger.DEBUG);
     private static final float PROGRESS_BAR_WIDTH = GameConfig.HUD_WIDTH/2;
     private static final  float PROGRESS_BAR_HEIGHT = 60f;
+    private static final int FRAME_LOAD_MILLIS = 15;
 
     private OrthographicCamera camera;
     private Viewport viewport;
     private ShapeRenderer shapeRenderer;
 
     private float progress;
-    private float waitTime = 0.75f; // pause after assetManager.update()
     private boolean changeScreen;
+    private AssetDescriptor<?>[] required; // what the next screen needs before it can show
 
     private final ObstacleAvoidGame game;
     private final AssetManager assetManager;
@@ -42,12 +45,31 @@ public class LoadingScreen extends ScreenAdapter
         viewport = new FitViewport(GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT, camera);
         shapeRenderer = new ShapeRenderer(  );
 
-        assetManager.load(AssetDescriptors.UI_FONT_32);
-        assetManager.load(AssetDescriptors.GAMEPLAY_ATlAS);
-        assetManager.load( AssetDescriptors.UI_SKIN );  // atlas/skin/json files should have same name 'uiskin'
-        assetManager.load( AssetDescriptors.CRASH_WAV );
+        // queued in priority order, the manager loads first in first out. The game keeps calling update(), so
+        // whatever the menu does not need carries on loading after this screen has gone
+        // atlas/skin/json files should have same name 'uiskin'
+        for (AssetDescriptor<?> descriptor : AssetDescriptors.MENU_ASSETS) {
+            assetManager.load(descriptor);
+        }
+        for (AssetDescriptor<?> descriptor : AssetDescriptors.GAMEPLAY_ASSETS) {
+            assetManager.load(descriptor);
+        }
+
+        // read off the render thread while the assets load
+        GameManager.INSTANCE.load();
 
+        // every obstacle slot a session can need, made now rather than in the middle of play
+        game.getObstacleStore().reserve(GameConfig.OBSTACLE_STORE_CAPACITY);
 
+        // nothing else to draw yet, so the game's loading can have all of each frame rather than the usual share
+        game.setAssetLoadMillis(FRAME_LOAD_MILLIS);
+
+        // bot and replay runs go straight into the game, so wait for everything
+        if (game.getLaunchOptions().isUnattended()) {
+            required = concat(AssetDescriptors.MENU_ASSETS, AssetDescriptors.GAMEPLAY_ASSETS);
+        } else {
+            required = AssetDescriptors.MENU_ASSETS;
+        }
     }
 
     @Override
@@ -66,7 +88,12 @@ public class LoadingScreen extends ScreenAdapter
         shapeRenderer.end();
 
         if (changeScreen) {
-            game.setScreen(new MenuScreen(game));
+            GameManager.INSTANCE.loadFinished();
+            if (game.getLaunchOptions().isUnattended()) {
+                game.setScreen(new GameScreen(game));
+            } else {
+                game.setScreen(game.getMenuScreen());
+            }
         }
     }
 
@@ -82,18 +109,15 @@ public class LoadingScreen extends ScreenAdapter
     }
 
     private void update( float delta ) {
-       waitMillis(10);
-
-       progress = assetManager.getProgress();
-
-       // == checkin with assetManager == true on completed load
-       if (assetManager.update()) {
-           waitTime -= delta;
-
-           if (waitTime <= 0) {
-               changeScreen = true;
+       // the game has already updated the manager this frame
+       int loaded = 0;
+       for (AssetDescriptor<?> descriptor : required) {
+           if (assetManager.isLoaded(descriptor)) {
+               loaded++;
            }
        }
+       progress = loaded / (float) required.length;
+       changeScreen = loaded == required.length && GameManager.INSTANCE.isLoaded();
     }
 
     @Override
@@ -105,6 +129,7 @@ public class LoadingScreen extends ScreenAdapter
     @Override
     public void hide( )
     {
+    game.setAssetLoadMillis(GameConfig.ASSET_LOAD_MILLIS_PER_FRAME);
     dispose();
     }
 
@@ -115,13 +140,11 @@ public class LoadingScreen extends ScreenAdapter
     }
 
     // private
-    private static void waitMillis(long millis) {
-
-        try {
-            Thread.sleep(millis);
-        } catch ( InterruptedException e ) {
-            LOG.debug(String.format("Log wait interrupted @ waitMillis {} ",  e));
-        }
+    private static AssetDescriptor<?>[] concat(AssetDescriptor<?>[] first, AssetDescriptor<?>[] second) {
+        AssetDescriptor<?>[] all = new AssetDescriptor<?>[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
     }
 
 }
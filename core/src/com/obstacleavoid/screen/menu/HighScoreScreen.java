@@ -1,24 +1,34 @@
 package com.obstacleavoid.screen.menu;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Logger;
 import com.obstacleavoid.ObstacleAvoidGame;
 import com.obstacleavoid.assets.AssetDescriptors;
 import com.obstacleavoid.assets.RegionNames;
 import com.obstacleavoid.common.GameManager;
+import com.obstacleavoid.common.LeaderboardEntry;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
 
+import static com.obstacleavoid.util.Common.LOCALE;
+
+// the leaderboard of one difficulty at a time, the difficulty button steps through them
 public class HighScoreScreen extends MenuScreenBase
 {
     private static final Logger LOG = new Logger(HighScoreScreen.class.getName(), Logger.DEBUG);
+    private static final String EMPTY = "-";
 
+    private TextButton difficultyButton;
+    private GameDifficulty shownDifficulty;
+    // one row per place, the labels are kept and only their text changes
+    private final Label[] scoreLabels = new Label[ GameConfig.LEADERBOARD_SIZE ];
+    private final Label[] durationLabels = new Label[ GameConfig.LEADERBOARD_SIZE ];
 
     public HighScoreScreen(ObstacleAvoidGame game) {
         super(game);
@@ -29,7 +39,6 @@ public class HighScoreScreen extends MenuScreenBase
 
         Skin uiskin = assetManager.get( AssetDescriptors.UI_SKIN );
         TextureAtlas gameplayAtlas = assetManager.get( AssetDescriptors.GAMEPLAY_ATlAS );
-        BitmapFont font = assetManager.get(AssetDescriptors.UI_FONT_32);
 
         TextureRegion backgroundRegion = gameplayAtlas.findRegion( RegionNames.BACKGROUND );
 
@@ -43,8 +52,27 @@ public class HighScoreScreen extends MenuScreenBase
         // highScoreText Label
         Label highScoreText = new Label("HIGHSCORE", uiskin);
 
-        // highScore Label
-        Label highScore = new Label( GameManager.INSTANCE.getHighScoreString( ), uiskin);
+        // difficulty shown
+        difficultyButton = new TextButton( GameDifficulty.MEDIUM.name(), uiskin );
+        difficultyButton.addListener( new ChangeListener( )
+        {
+            @Override
+            public void changed( ChangeEvent event, Actor actor )
+            {
+                nextDifficulty();
+            }
+        } );
+
+        // ranking rows
+        Table rankTable = new Table( uiskin );
+        rankTable.defaults().padLeft( 10 ).padRight( 10 );
+        for (int i = 0; i < GameConfig.LEADERBOARD_SIZE; i++) {
+            scoreLabels[i] = new Label( EMPTY, uiskin );
+            durationLabels[i] = new Label( EMPTY, uiskin );
+            rankTable.add( new Label( (i + 1) + ".", uiskin ) ).right();
+            rankTable.add( scoreLabels[i] ).right();
+            rankTable.add( durationLabels[i] ).right().row();
+        }
 
         // backButton
         //ImageButton backButton = createButton( uiAtlas, RegionNames.BACK, RegionNames.BACK_PRESSED );
@@ -61,10 +89,11 @@ public class HighScoreScreen extends MenuScreenBase
         // set contentTable
         Table contentTable = new Table( uiskin );
         contentTable.setBackground( RegionNames.PANEL );
-        contentTable.defaults().pad( 20 );
+        contentTable.defaults().pad( 10 );
         contentTable.center();
         contentTable.add(highScoreText).row();
-        contentTable.add(highScore).row();
+        contentTable.add(difficultyButton).row();
+        contentTable.add(rankTable).row();
         contentTable.add(backButton);
 
 
@@ -74,9 +103,41 @@ public class HighScoreScreen extends MenuScreenBase
         return table;
     }
 
+    // opens on the difficulty being played, a game may have been added since last time
+    @Override
+    protected void refresh() {
+        shownDifficulty = GameManager.INSTANCE.getGameDifficulty( );
+        showRanking();
+    }
+
+    private void nextDifficulty() {
+        GameDifficulty[] difficulties = GameDifficulty.values();
+        shownDifficulty = difficulties[(shownDifficulty.ordinal() + 1) % difficulties.length];
+        showRanking();
+    }
+
+    private void showRanking() {
+        difficultyButton.setText( shownDifficulty.name() );
+
+        Array<LeaderboardEntry> entries = GameManager.INSTANCE.getLeaderboard().getTop( shownDifficulty );
+        for (int i = 0; i < GameConfig.LEADERBOARD_SIZE; i++) {
+            if (i < entries.size) {
+                LeaderboardEntry entry = entries.get( i );
+                scoreLabels[i].setText( String.valueOf( entry.getScore() ) );
+                // 0 for the high score carried over from before the leaderboard, nobody timed it
+                durationLabels[i].setText( entry.getDurationMillis() == 0 ? EMPTY
+                        : String.format( LOCALE, "%.1fs", entry.getDurationMillis() / 1000f ) );
+            } else {
+                scoreLabels[i].setText( EMPTY );
+                durationLabels[i].setText( EMPTY );
+            }
+        }
+        LOG.debug( "showing " + entries.size + " " + shownDifficulty + " entries" );
+    }
+
     protected void back() {
         LOG.debug( "back()" );
-        obstacleAvoidGame.setScreen( new MenuScreen( obstacleAvoidGame ) );
+        obstacleAvoidGame.setScreen( obstacleAvoidGame.getMenuScreen( ) );
     }
 
 }
@@ -106,19 +106,21 @@ public class MenuScreen extends MenuScreenBase
     private void play()
     {
         LOG.debug( "play()" );
+        // the menu can come up before the gameplay assets are in
+        obstacleAvoidGame.finishLoading( );
         obstacleAvoidGame.setScreen( new GameScreen( obstacleAvoidGame ) );
     }
 
     private void showHighScore()
     {
         LOG.debug( "showHighScore()" );
-        obstacleAvoidGame.setScreen( new HighScoreScreen( obstacleAvoidGame ) );
+        obstacleAvoidGame.setScreen( obstacleAvoidGame.getHighScoreScreen( ) );
     }
 
     private void showOptions()
     {
         LOG.debug( "showOptions()" );
-        obstacleAvoidGame.setScreen( new OptionsScreen( obstacleAvoidGame ) );
+        obstacleAvoidGame.setScreen( obstacleAvoidGame.getOptionsScreen( ) );
     }
 
     private void quit()
@@ -31,25 +31,36 @@ public abstract class MenuScreenBase extends ScreenAdapter
         this.assetManager = obstacleAvoidGame.getAssetManager( );
     }
 
+    // the widget tree is only built the first time, after that the screen is shown as it was left
     @Override
     public void show()
     {
-        viewport = new FitViewport( GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT );
-        stage = new Stage( viewport, obstacleAvoidGame.getSpriteBatch( ) );
-
+        if ( stage == null ) {
+            viewport = new FitViewport( GameConfig.HUD_WIDTH, GameConfig.HUD_HEIGHT );
+            stage = new Stage( viewport, obstacleAvoidGame.getSpriteBatch( ) );
+            stage.addActor( createUi( ) );
+        }
 
         Gdx.input.setInputProcessor( stage );
-        stage.addActor(createUi( ));
+        refresh( );
     }
 
     protected abstract Actor createUi();
 
+    /**
+     * Called on every show, for anything shown that may have changed while the screen was away.
+     */
+    protected void refresh()
+    {
+    }
+
     @Override
     public void render( float delta )
     {
         GdxUtils.clearScreen( );
         stage.act( );
         stage.draw( );
+        obstacleAvoidGame.interactiveFrame( );
     }
 
     @Override
@@ -59,16 +70,24 @@ public abstract class MenuScreenBase extends ScreenAdapter
 
     }
 
+    // kept for next time, ObstacleAvoidGame disposes it
     @Override
     public void hide()
     {
-        dispose( );
+        if ( Gdx.input.getInputProcessor( ) == stage ) {
+            Gdx.input.setInputProcessor( null );
+        }
+        // nothing stays pressed or hovered from the click that left
+        stage.cancelTouchFocus( );
+        stage.unfocusAll( );
     }
 
     @Override
     public void dispose()
     {
-        stage.dispose( );
+        if ( stage != null ) {
+            stage.dispose( );
+        }
     }
 
     // Not required, use skins!
@@ -21,6 +21,7 @@ public class OptionsScreen extends MenuScreenBase
     private CheckBox easy;
     private CheckBox medium;
     private CheckBox hard;
+    private CheckBox stressTest;
 
     public OptionsScreen( ObstacleAvoidGame game )
     {
@@ -61,6 +62,18 @@ public class OptionsScreen extends MenuScreenBase
         medium.addListener( difficultyChanged );
         hard.addListener( difficultyChanged );
 
+        // not one of the difficulties, ramps obstacles up into the thousands
+        stressTest = formattedCheckBox( "STRESS TEST", uiSkin );
+        stressTest.setChecked( GameManager.INSTANCE.isStressTest() );
+        stressTest.addListener( new ChangeListener( )
+        {
+            @Override
+            public void changed( ChangeEvent event, Actor actor )
+            {
+                GameManager.INSTANCE.setStressTest( stressTest.isChecked() );
+            }
+        } );
+
         // back
         TextButton backButton = new TextButton( "BACK", uiSkin );
         backButton.addListener( new ChangeListener( )
@@ -80,6 +93,7 @@ public class OptionsScreen extends MenuScreenBase
         contentTable.add(easy).row();
         contentTable.add(medium).row();
         contentTable.add(hard).row();
+        contentTable.add(stressTest).row();
         contentTable.add( backButton );
         contentTable.pack();
 
@@ -119,7 +133,7 @@ public class OptionsScreen extends MenuScreenBase
     private void back()
     {
         LOG.debug( "back()" );
-        obstacleAvoidGame.setScreen( new MenuScreen( obstacleAvoidGame ) );
+        obstacleAvoidGame.setScreen( obstacleAvoidGame.getMenuScreen( ) );
     }
 
 }
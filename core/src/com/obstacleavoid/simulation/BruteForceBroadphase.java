@@ -0,0 +1,60 @@
+package com.obstacleavoid.simulation;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.IntArray;
+
+// every obstacle is a candidate, kept for comparing against SpatialHashBroadphase
+public class BruteForceBroadphase implements CollisionBroadphase
+{
+    private final IntArray live = new IntArray( );
+    // where each index sits in live, so remove does not have to search
+    private int[] positionOf = new int[ 0 ];
+
+    @Override
+    public void insert( int index, float centreX, float centreY )
+    {
+        if ( index >= positionOf.length ) {
+            reserve( Math.max( 8, Math.max( index + 1, positionOf.length * 2 ) ) );
+        }
+        positionOf[ index ] = live.size;
+        live.add( index );
+    }
+
+    @Override
+    public void update( int index, float centreX, float centreY )
+    {
+    }
+
+    @Override
+    public void remove( int index )
+    {
+        int position = positionOf[ index ];
+        int last = live.pop( );
+        if ( last != index ) {
+            live.set( position, last );
+            positionOf[ last ] = position;
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        live.clear( );
+    }
+
+    @Override
+    public void reserve( int capacity )
+    {
+        if ( capacity > positionOf.length ) {
+            positionOf = Arrays.copyOf( positionOf, capacity );
+            live.ensureCapacity( capacity - live.size );
+        }
+    }
+
+    @Override
+    public void query( float centreX, float centreY, float radius, IntArray out )
+    {
+        out.addAll( live );
+    }
+}
@@ -0,0 +1,29 @@
+package com.obstacleavoid.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Narrows down which obstacles in an ObstacleStore can touch a circle, so the exact overlap test only runs on those.
+ * The store keeps it in step with every add, move and remove. Indices are the store's physical slots, an obstacle
+ * keeps its slot until it is removed.
+ */
+public interface CollisionBroadphase
+{
+    void insert( int index, float centreX, float centreY );
+
+    void update( int index, float centreX, float centreY );
+
+    void remove( int index );
+
+    void clear();
+
+    /**
+     * Makes room for indices below capacity up front, so inserting them allocates nothing.
+     */
+    void reserve( int capacity );
+
+    /**
+     * Adds to out every index that may overlap the circle, it can contain some that do not.
+     */
+    void query( float centreX, float centreY, float radius, IntArray out );
+}
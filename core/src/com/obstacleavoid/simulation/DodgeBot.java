@@ -0,0 +1,89 @@
+package com.obstacleavoid.simulation;
+
+import static com.obstacleavoid.util.Common.MAX_PLAYER_SPEED;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
+import com.obstacleavoid.config.GameConfig;
+
+/**
+ * A scripted player, for headless runs and for the game's bot mode. Each tick it tries holding left, nothing and right, predicts where that would
+ * put it when each nearby obstacle comes down to its height, and picks the move whose first hit is furthest away,
+ * preferring to stay put and then the move towards the middle. It is no expert, only consistent, so that settings can
+ * be compared by how long the same bot lasts with them.
+ */
+public class DodgeBot implements PlayerController
+{
+    // world units above the player it looks for obstacles
+    private static final float LOOKAHEAD = 3f;
+    // extra gap kept between the player and an obstacle
+    private static final float CLEARANCE = 0.05f;
+
+    // the moves tried, as x direction
+    private static final int LEFT = -1;
+    private static final int STAY = 0;
+    private static final int RIGHT = 1;
+
+    public DodgeBot(){}
+
+    @Override
+    public void update( GameSimulation simulation, InputState input )
+    {
+        Circle bounds = simulation.getPlayer( ).getBounds( );
+        float centre = GameConfig.WORLD_WIDTH / 2f;
+        int towardsCentre = bounds.x < centre ? RIGHT : LEFT;
+
+        int best = STAY;
+        float bestTime = timeToHit( simulation, STAY );
+
+        float towardsTime = timeToHit( simulation, towardsCentre );
+        if ( towardsTime > bestTime ) {
+            best = towardsCentre;
+            bestTime = towardsTime;
+        }
+        if ( timeToHit( simulation, -towardsCentre ) > bestTime ) {
+            best = -towardsCentre;
+        }
+        input.set( best == LEFT, best == RIGHT );
+    }
+
+    // seconds until the first obstacle the player would hit holding direction, Float.MAX_VALUE if none
+    private float timeToHit( GameSimulation simulation, int direction )
+    {
+        Circle bounds = simulation.getPlayer( ).getBounds( );
+        ObstacleStore obstacles = simulation.getObstacles( );
+
+        float first = Float.MAX_VALUE;
+        for ( int i = 0; i < obstacles.size( ); i++ ) {
+            float radius = obstacles.getRadius( i );
+            float distance = obstacles.getY( i ) + radius - bounds.y;
+            float reach = radius + bounds.radius + CLEARANCE;
+
+            if ( distance < -reach || distance > LOOKAHEAD || obstacles.isHit( i ) ) {
+                continue; // passed, still far off, or already counted
+            }
+            // while it passes the player's height it is within reach vertically, from enter to exit
+            float speed = obstacles.getSpeed( i );
+            float enter = Math.max( 0f, ( distance - reach ) / speed );
+            float exit = ( distance + reach ) / speed;
+            float centreX = obstacles.getX( i ) + radius;
+            float enterX = predictX( bounds.x, direction, enter );
+            float exitX = predictX( bounds.x, direction, exit );
+
+            boolean crosses = ( enterX - centreX ) * ( exitX - centreX ) <= 0f;
+            if ( ( crosses || Math.abs( enterX - centreX ) < reach || Math.abs( exitX - centreX ) < reach )
+                    && enter < first ) {
+                first = enter;
+            }
+        }
+        return first;
+    }
+
+    // player centre x after holding direction for time seconds
+    private static float predictX( float x, int direction, float time )
+    {
+        float halfPlayer = GameConfig.PLAYER_SIZE / 2f;
+        return MathUtils.clamp( x + direction * MAX_PLAYER_SPEED * time, halfPlayer,
+                GameConfig.WORLD_WIDTH - halfPlayer );
+    }
+}
@@ -0,0 +1,58 @@
+package com.obstacleavoid.simulation;
+
+/**
+ * Accumulates frame time and hands it out as whole fixed length ticks, what is left over is the interpolation alpha
+ * for drawing between the last two ticks.
+ */
+public class FixedTimestep
+{
+    private final float stepSeconds;
+    private final int maxStepsPerFrame;
+    private float accumulator;
+
+    public FixedTimestep( int ticksPerSecond, int maxStepsPerFrame )
+    {
+        if ( ticksPerSecond <= 0 || maxStepsPerFrame <= 0 ) {
+            throw new IllegalArgumentException( "ticksPerSecond and maxStepsPerFrame must be > 0" );
+        }
+        this.stepSeconds = 1f / ticksPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds this frame's time.
+     *
+     * @return how many ticks of getStepSeconds() to simulate now.
+     */
+    public int advance( float frameDelta )
+    {
+        accumulator += frameDelta;
+
+        int steps = (int) ( accumulator / stepSeconds );
+        if ( steps > maxStepsPerFrame ) {
+            // too far behind, skip the backlog rather than spiral
+            steps = maxStepsPerFrame;
+            accumulator = steps * stepSeconds;
+        }
+        accumulator -= steps * stepSeconds;
+        return steps;
+    }
+
+    public void reset()
+    {
+        accumulator = 0f;
+    }
+
+    public float getStepSeconds()
+    {
+        return stepSeconds;
+    }
+
+    /**
+     * @return how far between the previous and the latest tick the current frame is, 0 to 1.
+     */
+    public float getAlpha()
+    {
+        return Math.min( 1f, accumulator / stepSeconds );
+    }
+}
@@ -0,0 +1,335 @@
+package com.obstacleavoid.simulation;
+
+import static com.obstacleavoid.config.GameConfig.OBSTACLE_SIZE;
+import static com.obstacleavoid.config.GameConfig.PLAYER_SCORES_AFTER;
+import static com.obstacleavoid.util.Common.MAX_PLAYER_SPEED;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+
+/**
+ * Spawn, movement, collision, scoring and lives, with no rendering, Gdx.input or GameManager access. GameScreen
+ * steps it at a fixed rate (see FixedTimestep) and draws what it holds, other callers can step it as fast as they like
+ * without a GL context. All speeds are per second so the result only depends on the step length, not on who steps it.
+ * <p>
+ * Spawn positions and score increments come from the simulation's own RandomXS128, never MathUtils.random, so the
+ * same seed, difficulty and input for each step replay the same session exactly.
+ */
+public class GameSimulation
+{
+    private static final int INITIAL_OBSTACLE_CAPACITY = 64;
+    // the shown score counts up to the real one at this rate
+    private static final float DISPLAY_SCORE_PER_SECOND = 80f;
+    // timers, lives, score, display score and its timer, random state, player x y previous x
+    private static final int FIXED_STATE_BYTES = 4 + 4 + 4 + 4 + 4 + 4 + 8 + 8 + 4 + 4 + 4;
+
+    private final float obstacleSpeed;
+    private float spawnEvery;
+    private boolean invulnerable;
+    private final long seed;
+    private final RandomXS128 random;
+    private final Player player = new Player( );
+    // per simulation, so several simulations can run side by side
+    private final ObstacleStore obstacles;
+
+    private float obstacleTimer;
+    private float scoreTimer;
+    private int lives = GameConfig.PLAYER_INITIAL_LIVES;
+    private int score;
+    private int displayScore;
+    private float displayScoreTimer; // points counted but not shown yet, under 1
+
+    private final float startPlayerX = ( GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE ) / 2f;
+    private final float startPlayerY = GameConfig.PLAYER_SIZE / 2f;
+
+    // unseeded, for callers that do not need to reproduce the session
+    public GameSimulation( GameDifficulty difficulty )
+    {
+        this( difficulty, MathUtils.random.nextLong( ) );
+    }
+
+    public GameSimulation( GameDifficulty difficulty, long seed )
+    {
+        this( difficulty, seed, new SpatialHashBroadphase( ) );
+    }
+
+    public GameSimulation( GameDifficulty difficulty, long seed, CollisionBroadphase broadphase )
+    {
+        this( difficulty.getObjectSpeed( ), GameConfig.OBSTACLES_SPAWN_EVERY, seed, broadphase );
+    }
+
+    /**
+     * Plays in a store made and reserved beforehand, e.g. the game's, which is cleared first. Only one simulation may
+     * use a store at a time.
+     */
+    public GameSimulation( GameDifficulty difficulty, long seed, ObstacleStore obstacles )
+    {
+        this( difficulty.getObjectSpeed( ), GameConfig.OBSTACLES_SPAWN_EVERY, seed, obstacles );
+    }
+
+    /**
+     * For trying out settings no GameDifficulty has yet, e.g. when balancing.
+     *
+     * @param obstacleSpeed world units per second.
+     * @param spawnEvery    seconds between new obstacles.
+     */
+    public GameSimulation( float obstacleSpeed, float spawnEvery, long seed, CollisionBroadphase broadphase )
+    {
+        this( obstacleSpeed, spawnEvery, seed, new ObstacleStore( INITIAL_OBSTACLE_CAPACITY, broadphase ) );
+    }
+
+    private GameSimulation( float obstacleSpeed, float spawnEvery, long seed, ObstacleStore obstacles )
+    {
+        checkSpawnEvery( spawnEvery );
+        this.obstacleSpeed = obstacleSpeed;
+        this.spawnEvery = spawnEvery;
+        this.seed = seed;
+        this.random = new RandomXS128( seed );
+        this.obstacles = obstacles;
+        obstacles.clear( );
+        player.setPosition( startPlayerX, startPlayerY );
+    }
+
+    /**
+     * Advances the game by one step of delta seconds.
+     *
+     * @return true if the player hit an obstacle during this step, check isGameOver() for the outcome.
+     */
+    public boolean step( float delta, InputState input )
+    {
+        if ( isGameOver( ) ) {
+            return false;
+        }
+
+        boolean hit = isPlayerCollidingWithObstacle( );
+
+        if ( hit && !invulnerable ) {
+            lives--;
+            if ( isGameOver( ) ) {
+                return true;
+            }
+            restart( );
+        }
+
+        updateScore( delta );
+        updateDisplayScore( delta );
+
+        createNewObstacle( delta );
+        removePassedObstacles( );
+
+        updatePlayer( delta, input );
+        obstacles.moveAll( delta );
+        return hit;
+    }
+
+    public void restart()
+    {
+        obstacles.clear( );
+        player.setPosition( startPlayerX, startPlayerY );
+    }
+
+    public boolean isGameOver()
+    {
+        return lives <= 0;
+    }
+
+    /**
+     * Seconds between new obstacles from the next step on. Below the step length several spawn in one step.
+     */
+    public void setSpawnEvery( float spawnEvery )
+    {
+        checkSpawnEvery( spawnEvery );
+        this.spawnEvery = spawnEvery;
+    }
+
+    public float getSpawnEvery()
+    {
+        return spawnEvery;
+    }
+
+    // hits are still reported by step, but cost no lives and do not clear the obstacles
+    public void setInvulnerable( boolean invulnerable )
+    {
+        this.invulnerable = invulnerable;
+    }
+
+    /**
+     * Bytes writeState needs right now, grows with the number of obstacles.
+     */
+    public int getStateSize()
+    {
+        return FIXED_STATE_BYTES + obstacles.getStateSize( );
+    }
+
+    /**
+     * Writes everything that changes while stepping, including the random state, so readState on a simulation of the
+     * same difficulty carries on exactly as this one would. The seed and difficulty are not written.
+     */
+    public void writeState( ByteBuffer buffer )
+    {
+        buffer.putFloat( obstacleTimer );
+        buffer.putFloat( scoreTimer );
+        buffer.putInt( lives );
+        buffer.putInt( score );
+        buffer.putInt( displayScore );
+        buffer.putFloat( displayScoreTimer );
+        buffer.putLong( random.getState( 0 ) );
+        buffer.putLong( random.getState( 1 ) );
+        buffer.putFloat( player.getX( ) );
+        buffer.putFloat( player.getY( ) );
+        buffer.putFloat( player.getPreviousX( ) );
+        obstacles.writeState( buffer );
+    }
+
+    public void readState( ByteBuffer buffer )
+    {
+        obstacleTimer = buffer.getFloat( );
+        scoreTimer = buffer.getFloat( );
+        lives = buffer.getInt( );
+        score = buffer.getInt( );
+        displayScore = buffer.getInt( );
+        displayScoreTimer = buffer.getFloat( );
+        long state0 = buffer.getLong( );
+        long state1 = buffer.getLong( );
+        random.setState( state0, state1 );
+        float playerX = buffer.getFloat( );
+        float playerY = buffer.getFloat( );
+        float playerPreviousX = buffer.getFloat( );
+        player.restore( playerX, playerY, playerPreviousX );
+        obstacles.readState( buffer );
+    }
+
+    // private
+
+    private boolean isPlayerCollidingWithObstacle()
+    {
+        Circle bounds = player.getBounds( );
+        int index = obstacles.findOverlapping( bounds.x, bounds.y, bounds.radius );
+
+        if ( index < 0 ) {
+            return false;
+        }
+        obstacles.markHit( index );
+        return true;
+    }
+
+    private void updatePlayer( float delta, InputState input )
+    {
+        float xSpeed = 0;
+
+        if ( input.isRight( ) ) {
+            xSpeed = MAX_PLAYER_SPEED;
+        } else if ( input.isLeft( ) ) {
+            xSpeed = -MAX_PLAYER_SPEED;
+        }
+
+        float playerX = MathUtils.clamp( player.getX( ) + xSpeed * delta, 0f,
+                ( GameConfig.WORLD_WIDTH - GameConfig.PLAYER_SIZE ) );
+        player.moveX( playerX );
+    }
+
+    private void removePassedObstacles()
+    {
+        obstacles.removeBelow( -OBSTACLE_SIZE );
+    }
+
+    // 0 would spawn Integer.MAX_VALUE obstacles in one step
+    private static void checkSpawnEvery( float spawnEvery )
+    {
+        if ( !( spawnEvery > 0 ) ) {
+            throw new IllegalArgumentException( "spawnEvery must be > 0, was " + spawnEvery );
+        }
+    }
+
+    private void createNewObstacle( float delta )
+    {
+        obstacleTimer += delta;
+
+        if ( obstacleTimer >= spawnEvery ) {
+            // always 1 at normal spawn rates, more only when spawning faster than the tick rate
+            int count = (int) ( obstacleTimer / spawnEvery );
+            float min = 0;
+            float max = GameConfig.WORLD_WIDTH - OBSTACLE_SIZE;
+
+            for ( int i = 0; i < count; i++ ) {
+                float obstacleX = random( min, max );
+
+                float obstacleY = GameConfig.WORLD_HEIGHT;
+
+                obstacles.add( obstacleX, obstacleY, obstacleSpeed, GameConfig.OBSTACLE_BOUNDS_RADIUS );
+            }
+            // the remainder carries over, or spawning faster than the ticks would fall short of spawnEvery
+            obstacleTimer -= count * spawnEvery;
+        }
+    }
+
+    private void updateScore( float delta )
+    {
+        scoreTimer += delta;
+
+        if ( scoreTimer >= PLAYER_SCORES_AFTER ) {
+            score += random( 1, 5 );
+            scoreTimer = 0.0f;
+        }
+    }
+
+    // same results as MathUtils.random(float, float) and MathUtils.random(int, int), but from this session's random
+    private float random( float start, float end )
+    {
+        return start + random.nextFloat( ) * ( end - start );
+    }
+
+    private int random( int start, int end )
+    {
+        return start + random.nextInt( end - start + 1 );
+    }
+
+    private void updateDisplayScore( float delta )
+    {
+        if ( displayScore >= score ) {
+            displayScoreTimer = 0f;
+            return;
+        }
+        // the fraction carries over like the spawn timer, so the rate is the same at any tick rate
+        displayScoreTimer += DISPLAY_SCORE_PER_SECOND * delta;
+        int points = (int) displayScoreTimer;
+        displayScoreTimer -= points;
+        displayScore = Math.min( score, displayScore + points );
+    }
+
+    // Getters
+    public long getSeed()
+    {
+        return seed;
+    }
+
+    public Player getPlayer()
+    {
+        return player;
+    }
+
+    public ObstacleStore getObstacles()
+    {
+        return obstacles;
+    }
+
+    public int getLives()
+    {
+        return lives;
+    }
+
+    public int getScore()
+    {
+        return score;
+    }
+
+    public int getDisplayScore()
+    {
+        return displayScore;
+    }
+}
@@ -0,0 +1,33 @@
+package com.obstacleavoid.simulation;
+
+/**
+ * The player input for one simulation step, kept free of Gdx.input so the simulation can be driven headless.
+ */
+public class InputState
+{
+    private boolean left;
+    private boolean right;
+
+    public InputState(){}
+
+    public void set( boolean left, boolean right )
+    {
+        this.left = left;
+        this.right = right;
+    }
+
+    public void clear()
+    {
+        set( false, false );
+    }
+
+    public boolean isLeft()
+    {
+        return left;
+    }
+
+    public boolean isRight()
+    {
+        return right;
+    }
+}
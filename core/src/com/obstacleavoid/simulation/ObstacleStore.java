@@ -0,0 +1,323 @@
+package com.obstacleavoid.simulation;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Every live obstacle as parallel primitive arrays rather than one object each, so moving and hit testing thousands
+ * of them is a straight scan over a few float arrays. x and y are bottom left as drawn, the collision circle is
+ * centred at x + radius, y + radius.
+ * <p>
+ * The arrays are a ring buffer in spawn order, index 0 is the oldest obstacle. Obstacles in a simulation all fall at
+ * the same speed, so the ones that have passed are always the oldest and removing them only touches those. Slots are
+ * recycled in place, there is nothing to allocate or pool per obstacle. Every change is passed on to the
+ * CollisionBroadphase using physical slots, which stay the same for an obstacle's whole life.
+ * <p>
+ * Running out of slots doubles the arrays and puts every obstacle into the broadphase again, a hitch in play. The game
+ * reserve()s its store while loading, the peak size and grow count say whether that was enough.
+ */
+public class ObstacleStore
+{
+    private static final int OBSTACLE_STATE_BYTES = 5 * 4 + 1;
+
+    private float[] x;
+    private float[] y;
+    private float[] previousY;
+    private float[] speed;
+    private float[] radius;
+    private boolean[] hit;
+    private int head;
+    private int size;
+    private int mask;
+    private int peakSize;
+    private int growCount;
+
+    private final CollisionBroadphase broadphase;
+    private final IntArray candidates = new IntArray( );
+
+    public ObstacleStore( int initialCapacity, CollisionBroadphase broadphase )
+    {
+        this.broadphase = broadphase;
+        allocate( capacityFor( initialCapacity ) );
+    }
+
+    /**
+     * Adds a new, youngest, obstacle.
+     *
+     * @return its index.
+     */
+    public int add( float obstacleX, float obstacleY, float ySpeed, float boundsRadius )
+    {
+        if ( size == x.length ) {
+            grow( );
+        }
+        int slot = slot( size );
+        x[ slot ] = obstacleX;
+        y[ slot ] = obstacleY;
+        previousY[ slot ] = obstacleY;
+        speed[ slot ] = ySpeed;
+        radius[ slot ] = boundsRadius;
+        hit[ slot ] = false;
+        broadphase.insert( slot, obstacleX + boundsRadius, obstacleY + boundsRadius );
+        size++;
+        if ( size > peakSize ) {
+            peakSize = size;
+        }
+        return size - 1;
+    }
+
+    /**
+     * Makes room for at least capacity obstacles now, so spawning up to that many allocates nothing. Not a grow.
+     */
+    public void reserve( int capacity )
+    {
+        if ( capacity > x.length ) {
+            resize( capacityFor( capacity ) );
+        }
+        broadphase.reserve( x.length );
+    }
+
+    public void clear()
+    {
+        head = 0;
+        size = 0;
+        broadphase.clear( );
+    }
+
+    public void moveAll( float delta )
+    {
+        for ( int i = 0; i < size; i++ ) {
+            int slot = slot( i );
+            previousY[ slot ] = y[ slot ];
+            y[ slot ] -= speed[ slot ] * delta;
+            broadphase.update( slot, x[ slot ] + radius[ slot ], y[ slot ] + radius[ slot ] );
+        }
+    }
+
+    /**
+     * Finds an obstacle not already hit whose bounds overlap the given circle, nothing is changed.
+     *
+     * @return index of the obstacle or -1.
+     */
+    public int findOverlapping( float centreX, float centreY, float circleRadius )
+    {
+        candidates.clear( );
+        broadphase.query( centreX, centreY, circleRadius, candidates );
+
+        for ( int c = 0; c < candidates.size; c++ ) {
+            int slot = candidates.get( c );
+            if ( !hit[ slot ] && overlapsSlot( slot, centreX, centreY, circleRadius ) ) {
+                return ( slot - head ) & mask;
+            }
+        }
+        return -1;
+    }
+
+    public void markHit( int index )
+    {
+        hit[ slot( index ) ] = true;
+    }
+
+    public boolean overlaps( int index, float centreX, float centreY, float circleRadius )
+    {
+        return overlapsSlot( slot( index ), centreX, centreY, circleRadius );
+    }
+
+    /**
+     * Removes the oldest obstacles while their y is at or below minY, one pass over just the ones removed.
+     *
+     * @return number removed.
+     */
+    public int removeBelow( float minY )
+    {
+        int removed = 0;
+        while ( size > 0 && y[ head ] <= minY ) {
+            broadphase.remove( head );
+            head = ( head + 1 ) & mask;
+            size--;
+            removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * @return live obstacles.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return free slots that can be spawned into without growing.
+     */
+    public int getPooledCount()
+    {
+        return x.length - size;
+    }
+
+    /**
+     * @return the most obstacles held at once since the store was made, what reserve() would have needed.
+     */
+    public int getPeakSize()
+    {
+        return peakSize;
+    }
+
+    /**
+     * @return times add() ran out of slots and doubled the arrays, 0 if reserve() was enough.
+     */
+    public int getGrowCount()
+    {
+        return growCount;
+    }
+
+    public float getX( int index )
+    {
+        return x[ slot( index ) ];
+    }
+
+    public float getY( int index )
+    {
+        return y[ slot( index ) ];
+    }
+
+    /**
+     * @param alpha 0 is the previous tick, 1 the latest.
+     */
+    public float getInterpolatedY( int index, float alpha )
+    {
+        int slot = slot( index );
+        return previousY[ slot ] + ( y[ slot ] - previousY[ slot ] ) * alpha;
+    }
+
+    // world units per second, downwards
+    public float getSpeed( int index )
+    {
+        return speed[ slot( index ) ];
+    }
+
+    public float getRadius( int index )
+    {
+        return radius[ slot( index ) ];
+    }
+
+    public boolean isHit( int index )
+    {
+        return hit[ slot( index ) ];
+    }
+
+    /**
+     * Bytes writeState needs for the obstacles held now.
+     */
+    public int getStateSize()
+    {
+        return 4 + size * OBSTACLE_STATE_BYTES;
+    }
+
+    // oldest first, so readState puts them back in the same order
+    public void writeState( ByteBuffer buffer )
+    {
+        buffer.putInt( size );
+        for ( int i = 0; i < size; i++ ) {
+            int slot = slot( i );
+            buffer.putFloat( x[ slot ] );
+            buffer.putFloat( y[ slot ] );
+            buffer.putFloat( previousY[ slot ] );
+            buffer.putFloat( speed[ slot ] );
+            buffer.putFloat( radius[ slot ] );
+            buffer.put( hit[ slot ] ? (byte) 1 : (byte) 0 );
+        }
+    }
+
+    // replaces every obstacle with those from writeState
+    public void readState( ByteBuffer buffer )
+    {
+        clear( );
+        int count = buffer.getInt( );
+        for ( int i = 0; i < count; i++ ) {
+            float obstacleX = buffer.getFloat( );
+            float obstacleY = buffer.getFloat( );
+            float obstaclePreviousY = buffer.getFloat( );
+            float ySpeed = buffer.getFloat( );
+            float boundsRadius = buffer.getFloat( );
+            boolean obstacleHit = buffer.get( ) != 0;
+
+            int slot = slot( add( obstacleX, obstacleY, ySpeed, boundsRadius ) );
+            previousY[ slot ] = obstaclePreviousY;
+            hit[ slot ] = obstacleHit;
+        }
+    }
+
+    // private
+
+    private int slot( int index )
+    {
+        return ( head + index ) & mask;
+    }
+
+    private boolean overlapsSlot( int slot, float centreX, float centreY, float circleRadius )
+    {
+        float dx = x[ slot ] + radius[ slot ] - centreX;
+        float dy = y[ slot ] + radius[ slot ] - centreY;
+        float radiusSum = radius[ slot ] + circleRadius;
+        // same test as Intersector.overlaps(Circle, Circle)
+        return dx * dx + dy * dy < radiusSum * radiusSum;
+    }
+
+    // power of two, so wrapping is a mask
+    private static int capacityFor( int requested )
+    {
+        int capacity = 8;
+        while ( capacity < requested ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate( int capacity )
+    {
+        x = new float[ capacity ];
+        y = new float[ capacity ];
+        previousY = new float[ capacity ];
+        speed = new float[ capacity ];
+        radius = new float[ capacity ];
+        hit = new boolean[ capacity ];
+        mask = capacity - 1;
+    }
+
+    private void grow()
+    {
+        growCount++;
+        resize( x.length * 2 );
+    }
+
+    private void resize( int capacity )
+    {
+        float[] oldX = x;
+        float[] oldY = y;
+        float[] oldPreviousY = previousY;
+        float[] oldSpeed = speed;
+        float[] oldRadius = radius;
+        boolean[] oldHit = hit;
+        int oldHead = head;
+        int oldMask = mask;
+
+        allocate( capacity );
+
+        // unwrap into spawn order, every obstacle changes slot so the broadphase starts again
+        broadphase.clear( );
+        for ( int i = 0; i < size; i++ ) {
+            int from = ( oldHead + i ) & oldMask;
+            x[ i ] = oldX[ from ];
+            y[ i ] = oldY[ from ];
+            previousY[ i ] = oldPreviousY[ from ];
+            speed[ i ] = oldSpeed[ from ];
+            radius[ i ] = oldRadius[ from ];
+            hit[ i ] = oldHit[ from ];
+            broadphase.insert( i, x[ i ] + radius[ i ], y[ i ] + radius[ i ] );
+        }
+        head = 0;
+    }
+}
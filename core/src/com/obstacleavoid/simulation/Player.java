@@ -0,0 +1,71 @@
+package com.obstacleavoid.simulation;
+
+import com.badlogic.gdx.math.Circle;
+import com.obstacleavoid.config.GameConfig;
+
+// model only, PlayerActor draws it.
+public class Player
+{
+    private float x;
+    private float y;
+    private float previousX;
+    private final Circle bounds = new Circle( 0f, 0f, GameConfig.PLAYER_BOUNDS_RADIUS );
+
+    public Player(){}
+
+    // places the player without any interpolation from the old position
+    public void setPosition( float x, float y )
+    {
+        this.previousX = x;
+        moveTo( x, y );
+    }
+
+    // puts back a position saved from getX, getY and getPreviousX
+    public void restore( float x, float y, float previousX )
+    {
+        moveTo( x, y );
+        this.previousX = previousX;
+    }
+
+    public void moveX( float x )
+    {
+        this.previousX = this.x;
+        moveTo( x, y );
+    }
+
+    private void moveTo( float x, float y )
+    {
+        this.x = x;
+        this.y = y;
+        // bounds are centred, x y are bottom left as with the actor
+        bounds.setPosition( x + GameConfig.PLAYER_SIZE / 2f, y + GameConfig.PLAYER_SIZE / 2f );
+    }
+
+    public float getX()
+    {
+        return x;
+    }
+
+    public float getY()
+    {
+        return y;
+    }
+
+    public float getPreviousX()
+    {
+        return previousX;
+    }
+
+    /**
+     * @param alpha 0 is the previous tick, 1 the latest.
+     */
+    public float getInterpolatedX( float alpha )
+    {
+        return previousX + ( x - previousX ) * alpha;
+    }
+
+    public Circle getBounds()
+    {
+        return bounds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.obstacleavoid.simulation;
+
+/**
+ * Decides the player's input for each simulation tick: the keyboard, a recorded replay or a bot.
+ */
+public interface PlayerController
+{
+    /**
+     * Called once before every tick.
+     *
+     * @param simulation as it is before the tick, for controllers that look at the obstacles.
+     * @param input      set to what the player does this tick.
+     */
+    void update( GameSimulation simulation, InputState input );
+}
@@ -0,0 +1,162 @@
+package com.obstacleavoid.simulation;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.obstacleavoid.config.GameConfig;
+
+/**
+ * Uniform grid hashed into a fixed bucket table. Each obstacle is linked into the bucket of the cell holding its
+ * centre and only relinked when a move takes it into another cell, so keeping it up to date is O(1) per obstacle and
+ * a query only walks the few cells around the circle.
+ */
+public class SpatialHashBroadphase implements CollisionBroadphase
+{
+    private static final int DEFAULT_BUCKET_COUNT = 1024; // power of two
+    private static final int EMPTY = -1;
+
+    private final float cellSize;
+    private final float maxObstacleRadius;
+    private final int bucketMask;
+    private final int[] buckets;
+
+    // per obstacle index, the links form one doubly linked list per bucket
+    private int[] next = new int[ 0 ];
+    private int[] prev = new int[ 0 ];
+    private int[] cellX = new int[ 0 ];
+    private int[] cellY = new int[ 0 ];
+    private int[] bucketOf = new int[ 0 ];
+
+    public SpatialHashBroadphase()
+    {
+        // one obstacle across, so a circle only ever spans a couple of cells each way
+        this( GameConfig.OBSTACLE_SIZE, GameConfig.OBSTACLE_BOUNDS_RADIUS, DEFAULT_BUCKET_COUNT );
+    }
+
+    public SpatialHashBroadphase( float cellSize, float maxObstacleRadius, int bucketCount )
+    {
+        if ( cellSize <= 0 || Integer.bitCount( bucketCount ) != 1 ) {
+            throw new IllegalArgumentException( "cellSize must be > 0 and bucketCount a power of two" );
+        }
+        this.cellSize = cellSize;
+        this.maxObstacleRadius = maxObstacleRadius;
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[ bucketCount ];
+        Arrays.fill( buckets, EMPTY );
+    }
+
+    @Override
+    public void insert( int index, float centreX, float centreY )
+    {
+        ensureCapacity( index + 1 );
+        link( index, cell( centreX ), cell( centreY ) );
+    }
+
+    @Override
+    public void update( int index, float centreX, float centreY )
+    {
+        int x = cell( centreX );
+        int y = cell( centreY );
+
+        if ( x == cellX[ index ] && y == cellY[ index ] ) {
+            return;
+        }
+        unlink( index );
+        link( index, x, y );
+    }
+
+    @Override
+    public void remove( int index )
+    {
+        unlink( index );
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill( buckets, EMPTY );
+    }
+
+    @Override
+    public void reserve( int capacity )
+    {
+        ensureCapacity( capacity );
+    }
+
+    @Override
+    public void query( float centreX, float centreY, float radius, IntArray out )
+    {
+        float reach = radius + maxObstacleRadius;
+        int minX = cell( centreX - reach );
+        int maxX = cell( centreX + reach );
+        int minY = cell( centreY - reach );
+        int maxY = cell( centreY + reach );
+
+        for ( int x = minX; x <= maxX; x++ ) {
+            for ( int y = minY; y <= maxY; y++ ) {
+                // other cells can share the bucket, only take the ones really in this cell
+                for ( int i = buckets[ hash( x, y ) ]; i != EMPTY; i = next[ i ] ) {
+                    if ( cellX[ i ] == x && cellY[ i ] == y ) {
+                        out.add( i );
+                    }
+                }
+            }
+        }
+    }
+
+    // private
+
+    private int cell( float position )
+    {
+        return (int) Math.floor( position / cellSize );
+    }
+
+    private int hash( int x, int y )
+    {
+        return ( ( x * 73856093 ) ^ ( y * 19349663 ) ) & bucketMask;
+    }
+
+    private void link( int index, int x, int y )
+    {
+        int bucket = hash( x, y );
+        int head = buckets[ bucket ];
+
+        cellX[ index ] = x;
+        cellY[ index ] = y;
+        bucketOf[ index ] = bucket;
+        prev[ index ] = EMPTY;
+        next[ index ] = head;
+        if ( head != EMPTY ) {
+            prev[ head ] = index;
+        }
+        buckets[ bucket ] = index;
+    }
+
+    private void unlink( int index )
+    {
+        int before = prev[ index ];
+        int after = next[ index ];
+
+        if ( before == EMPTY ) {
+            buckets[ bucketOf[ index ] ] = after;
+        } else {
+            next[ before ] = after;
+        }
+        if ( after != EMPTY ) {
+            prev[ after ] = before;
+        }
+    }
+
+    private void ensureCapacity( int capacity )
+    {
+        if ( capacity <= next.length ) {
+            return;
+        }
+        int newCapacity = Math.max( 8, Math.max( capacity, (int) ( next.length * 1.75f ) ) );
+        next = Arrays.copyOf( next, newCapacity );
+        prev = Arrays.copyOf( prev, newCapacity );
+        cellX = Arrays.copyOf( cellX, newCapacity );
+        cellY = Arrays.copyOf( cellY, newCapacity );
+        bucketOf = Arrays.copyOf( bucketOf, newCapacity );
+    }
+}
@@ -0,0 +1,32 @@
+package com.obstacleavoid.simulation;
+
+import com.obstacleavoid.config.GameConfig;
+
+/**
+ * Spawn interval for stress tests: starts at the normal interval and halves every doubling period, so the number of
+ * obstacles doubles too, until the minimum interval.
+ */
+public class StressRamp
+{
+    private final float startSpawnEvery;
+    private final float doublingSeconds;
+    private final float minSpawnEvery;
+
+    public StressRamp()
+    {
+        this( GameConfig.OBSTACLES_SPAWN_EVERY, GameConfig.STRESS_DOUBLING_SECONDS, GameConfig.STRESS_MIN_SPAWN_EVERY );
+    }
+
+    public StressRamp( float startSpawnEvery, float doublingSeconds, float minSpawnEvery )
+    {
+        this.startSpawnEvery = startSpawnEvery;
+        this.doublingSeconds = doublingSeconds;
+        this.minSpawnEvery = minSpawnEvery;
+    }
+
+    public float getSpawnEvery( float seconds )
+    {
+        float spawnEvery = startSpawnEvery / (float) Math.pow( 2.0, seconds / doublingSeconds );
+        return Math.max( spawnEvery, minSpawnEvery );
+    }
+}
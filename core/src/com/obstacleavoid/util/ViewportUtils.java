@@ -12,7 +12,9 @@ import static com.obstacleavoid.util.Common.DEFAULT_CELL_SIZE;
 public class ViewportUtils
 {
     private static final Logger LOG = new Logger(ViewportUtils.class.getName(), Logger.DEBUG);
+    private static final Color OLD_COLOR = new Color();
 
+    // emits every line again on each call, DebugGrid keeps them in a mesh for per frame use
     public static void drawGrid(Viewport viewport, ShapeRenderer renderer) {
         drawGrid(viewport, renderer, DEFAULT_CELL_SIZE);
     }
@@ -25,7 +27,7 @@ public class ViewportUtils
             cellSize = DEFAULT_CELL_SIZE;
         }
 
-        Color oldColor = new Color(renderer.getColor());
+        OLD_COLOR.set(renderer.getColor());
 
         int worldWidth = (int) viewport.getWorldWidth();
         int worldHeight = (int) viewport.getWorldHeight();
@@ -56,7 +58,7 @@ public class ViewportUtils
 
         renderer.end();
 
-        renderer.setColor(oldColor);
+        renderer.setColor(OLD_COLOR);
     }
 
     public static void debugPixelPerUnit(Viewport viewport) {
@@ -0,0 +1,78 @@
+package com.obstacleavoid.util.debug;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Align;
+import com.obstacleavoid.screen.game.HudText;
+
+/**
+ * Rolling stacked bar graph of the AllocationTracker history, one bar per frame, newest on the right, coloured by
+ * FramePhase. Drawn in HUD coordinates, the bar height scale is the largest frame held.
+ */
+public class AllocationOverlay
+{
+    private static final Color[] PHASE_COLORS = { Color.RED, Color.GREEN, Color.SKY, Color.YELLOW };
+    private static final float MIN_SCALE_BYTES = 1024f;
+    private static final float LEGEND_PADDING = 10f;
+
+    private final BitmapFont font;
+    private final GlyphLayout[] legend = new GlyphLayout[ FramePhase.COUNT ];
+    private final HudText maxText;
+
+    public AllocationOverlay( BitmapFont font )
+    {
+        this.font = font;
+        for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+            // the colour is part of the layout, it cannot be set on the font when drawing
+            legend[ p ] = new GlyphLayout( font, FramePhase.get( p ).getLabel( ), PHASE_COLORS[ p ], 0, Align.left,
+                    false );
+        }
+        maxText = new HudText( font, "MAX B/FRAME " );
+    }
+
+    // renderer must have the HUD projection set and not be drawing
+    public void drawGraph( ShapeRenderer renderer, AllocationTracker tracker, float x, float y, float width,
+                           float height )
+    {
+        int frames = tracker.getFrameCount( );
+        float scale = height / Math.max( MIN_SCALE_BYTES, tracker.getMaxTotalBytes( ) );
+        float barWidth = width / AllocationTracker.HISTORY_FRAMES;
+
+        renderer.begin( ShapeRenderer.ShapeType.Filled );
+        for ( int i = 0; i < frames; i++ ) {
+            float barX = x + width - ( i + 1 ) * barWidth;
+            float barY = y;
+            for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+                float barHeight = tracker.getBytes( i, FramePhase.get( p ) ) * scale;
+                renderer.setColor( PHASE_COLORS[ p ] );
+                renderer.rect( barX, barY, barWidth, barHeight );
+                barY += barHeight;
+            }
+        }
+        renderer.end( );
+
+        renderer.begin( ShapeRenderer.ShapeType.Line );
+        renderer.setColor( Color.WHITE );
+        renderer.rect( x, y, width, height );
+        renderer.end( );
+    }
+
+    // batch must have the HUD projection set and be drawing, the legend sits on top of the graph
+    public void drawLabels( Batch batch, AllocationTracker tracker, float x, float y, float height )
+    {
+        float labelX = x;
+        float labelY = y + height + LEGEND_PADDING + legend[ 0 ].height;
+        for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+            font.draw( batch, legend[ p ], labelX, labelY );
+            labelX += legend[ p ].width + LEGEND_PADDING;
+        }
+
+        // sampled numbers are only an estimate, show them grey
+        maxText.setColor( tracker.isExact( ) ? Color.WHITE : Color.LIGHT_GRAY );
+        maxText.setValue( (int) Math.min( Integer.MAX_VALUE, tracker.getMaxTotalBytes( ) ) );
+        maxText.draw( batch, x, labelY + LEGEND_PADDING + maxText.getHeight( ) );
+    }
+}
@@ -0,0 +1,17 @@
+package com.obstacleavoid.util.debug;
+
+/**
+ * Platform specific source of allocated byte counts, the launcher passes one in to ObstacleAvoidGame.
+ */
+public interface AllocationSampler
+{
+    /**
+     * @return bytes allocated so far, only the difference between two calls means anything.
+     */
+    long getAllocatedBytes();
+
+    /**
+     * @return false if getAllocatedBytes() is an estimate that can include other threads or miss memory freed by GC.
+     */
+    boolean isExact();
+}
@@ -0,0 +1,132 @@
+package com.obstacleavoid.util.debug;
+
+import java.util.Arrays;
+
+/**
+ * Bytes allocated per FramePhase for the last HISTORY_FRAMES frames. Does nothing until enabled, so it can stay wired
+ * into GameScreen.render.
+ */
+public class AllocationTracker
+{
+    public static final int HISTORY_FRAMES = 120;
+
+    private final AllocationSampler sampler;
+    // ring buffer of frames, one row per frame
+    private final long[][] history = new long[ HISTORY_FRAMES ][ FramePhase.COUNT ];
+    private final long[] current = new long[ FramePhase.COUNT ];
+    private int newest = -1;
+    private int frameCount;
+
+    private boolean enabled;
+    private boolean inFrame;
+    private long phaseStart;
+
+    public AllocationTracker( AllocationSampler sampler )
+    {
+        this.sampler = sampler;
+    }
+
+    public void toggle()
+    {
+        setEnabled( !enabled );
+    }
+
+    public void setEnabled( boolean enabled )
+    {
+        this.enabled = enabled;
+        inFrame = false;
+        if ( enabled ) {
+            // old frames are from before the gap, start the graph again
+            frameCount = 0;
+            newest = -1;
+        }
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public boolean isExact()
+    {
+        return sampler.isExact( );
+    }
+
+    public void beginFrame()
+    {
+        if ( !enabled ) {
+            return;
+        }
+        Arrays.fill( current, 0L );
+        inFrame = true;
+    }
+
+    public void begin( FramePhase phase )
+    {
+        if ( inFrame ) {
+            phaseStart = sampler.getAllocatedBytes( );
+        }
+    }
+
+    public void end( FramePhase phase )
+    {
+        if ( inFrame ) {
+            // a sampling estimate goes down when GC runs, count that as nothing allocated
+            current[ phase.ordinal( ) ] += Math.max( 0L, sampler.getAllocatedBytes( ) - phaseStart );
+        }
+    }
+
+    public void endFrame()
+    {
+        if ( !inFrame ) {
+            return;
+        }
+        newest = ( newest + 1 ) % HISTORY_FRAMES;
+        System.arraycopy( current, 0, history[ newest ], 0, FramePhase.COUNT );
+        frameCount = Math.min( frameCount + 1, HISTORY_FRAMES );
+        inFrame = false;
+    }
+
+    /**
+     * @return frames held, up to HISTORY_FRAMES.
+     */
+    public int getFrameCount()
+    {
+        return frameCount;
+    }
+
+    /**
+     * @param framesAgo 0 is the last complete frame.
+     */
+    public long getBytes( int framesAgo, FramePhase phase )
+    {
+        return history[ index( framesAgo ) ][ phase.ordinal( ) ];
+    }
+
+    public long getTotalBytes( int framesAgo )
+    {
+        long[] frame = history[ index( framesAgo ) ];
+        long total = 0;
+        for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+            total += frame[ p ];
+        }
+        return total;
+    }
+
+    public long getMaxTotalBytes()
+    {
+        long max = 0;
+        for ( int i = 0; i < frameCount; i++ ) {
+            max = Math.max( max, getTotalBytes( i ) );
+        }
+        return max;
+    }
+
+    private int index( int framesAgo )
+    {
+        if ( framesAgo < 0 || framesAgo >= frameCount ) {
+            throw new IndexOutOfBoundsException( "framesAgo: " + framesAgo + ", frames held: " + frameCount );
+        }
+        return ( newest - framesAgo + HISTORY_FRAMES ) % HISTORY_FRAMES;
+    }
+}
@@ -23,6 +23,8 @@ public class DebugCameraConfig
     private static final String ZOOM_OUT_KEY = "zoomOutKey";
     private static final String RESET_KEY = "resetKey";
     private static final String LOG_KEY = "logKey";
+    private static final String ALLOCATION_OVERLAY_KEY = "allocationOverlayKey";
+    private static final String DEBUG_RENDER_KEY = "debugRenderKey";
 
     private static final String MOVE_SPEED = "moveSpeed";
     private static final String ZOOM_SPEED = "zoomSpeed";
@@ -40,6 +42,8 @@ public class DebugCameraConfig
     private static final int DEFAULT_ZOOM_OUT_KEY = Input.Keys.PERIOD;
     private static final int DEFAULT_RESET_KEY = Input.Keys.BACKSPACE;
     private static final int DEFAULT_LOG_KEY = Input.Keys.ENTER;
+    private static final int DEFAULT_ALLOCATION_OVERLAY_KEY = Input.Keys.F2;
+    private static final int DEFAULT_DEBUG_RENDER_KEY = Input.Keys.F3;
 
     private static final float DEFAULT_MOVE_SPEED = 20.0f;
     private static final float DEFAULT_ZOOM_SPEED = 2.0f;
@@ -58,6 +62,8 @@ public class DebugCameraConfig
     private int zoomOutKey;
     private int resetKey;
     private int logKey;
+    private int allocationOverlayKey;
+    private int debugRenderKey;
 
     private float moveSpeed;
     private float zoomSpeed;
@@ -102,6 +108,8 @@ public class DebugCameraConfig
             maxZoomOut = root.getFloat( MAX_ZOOM_OUT, DEFAULT_MAX_ZOOM_OUT );
             resetKey = getInputKeyValue( root, RESET_KEY, DEFAULT_RESET_KEY );
             logKey = getInputKeyValue( root, LOG_KEY, DEFAULT_LOG_KEY );
+            allocationOverlayKey = getInputKeyValue( root, ALLOCATION_OVERLAY_KEY, DEFAULT_ALLOCATION_OVERLAY_KEY );
+            debugRenderKey = getInputKeyValue( root, DEBUG_RENDER_KEY, DEFAULT_DEBUG_RENDER_KEY );
 
             moveSpeed = root.getFloat( MOVE_SPEED, DEFAULT_MOVE_SPEED );
             zoomSpeed = root.getFloat( ZOOM_SPEED, DEFAULT_ZOOM_SPEED );
@@ -143,6 +151,8 @@ public class DebugCameraConfig
         maxZoomOut = DEFAULT_MAX_ZOOM_OUT;
         resetKey = DEFAULT_RESET_KEY;
         logKey = DEFAULT_LOG_KEY;
+        allocationOverlayKey = DEFAULT_ALLOCATION_OVERLAY_KEY;
+        debugRenderKey = DEFAULT_DEBUG_RENDER_KEY;
 
         moveSpeed = DEFAULT_MOVE_SPEED;
         zoomSpeed = DEFAULT_ZOOM_SPEED;
@@ -191,6 +201,17 @@ public class DebugCameraConfig
         return Gdx.input.isKeyPressed( logKey );
     }
 
+    // toggles, so once per press rather than every frame held
+    public boolean isAllocationOverlayJustPressed( )
+    {
+        return Gdx.input.isKeyJustPressed( allocationOverlayKey );
+    }
+
+    public boolean isDebugRenderJustPressed( )
+    {
+        return Gdx.input.isKeyJustPressed( debugRenderKey );
+    }
+
     public float getMaxZoomIn( )
     {
         return maxZoomIn;
@@ -219,14 +240,17 @@ public class DebugCameraConfig
         try {
             String LS = System.getProperty( "line.separator" );
             return String.format( LOCALE, " DebugCameraConfig:%sleftKey = %s%srightKey = %s%supKey = %s%sdownKey = " +
-                            "%s%szoomInKey = %s%szoomOutKey = %s%sresetKey = %s%slogKey = %s%smaxZoomIn = %f%s" +
+                            "%s%szoomInKey = %s%szoomOutKey = %s%sresetKey = %s%slogKey = %s%sallocationOverlayKey = %s%s" +
+                            "debugRenderKey = %s%s" +
+                            "maxZoomIn = %f%s" +
                             "maxZoomOut = %f%smoveSpeed = %f%szoomSpeed = %f%szoomLevel = %f"
                     , LS, Input.Keys.toString( leftKey ), LS,
                     Input.Keys.toString( rightKey ), LS, Input.Keys.toString( upKey ), LS,
                     Input.Keys.toString( downKey ), LS,
                     Input.Keys.toString( zoomInKey ), LS, Input.Keys.toString( zoomOutKey ), LS,
                     Input.Keys.toString( resetKey ),
-                    LS, Input.Keys.toString( logKey ), LS, maxZoomIn, LS, maxZoomOut, LS, moveSpeed, LS, zoomSpeed, LS,
+                    LS, Input.Keys.toString( logKey ), LS, Input.Keys.toString( allocationOverlayKey ), LS,
+                    Input.Keys.toString( debugRenderKey ), LS, maxZoomIn, LS, maxZoomOut, LS, moveSpeed, LS, zoomSpeed, LS,
                     zoomLevel );
         } catch ( IllegalArgumentException e ) {
             LOG.info( "@ config To String Illegal Argument exception probably caused by -1 on a call to Input.Keys" +
@@ -80,6 +80,17 @@ public class DebugCameraController
 
     }
 
+    // the overlay toggles are read here too, so every debug key is set up in debugCameraConfig.json
+    public boolean isAllocationOverlayTogglePressed()
+    {
+        return Gdx.app.getType() == Application.ApplicationType.Desktop && config.isAllocationOverlayJustPressed();
+    }
+
+    public boolean isDebugRenderTogglePressed()
+    {
+        return Gdx.app.getType() == Application.ApplicationType.Desktop && config.isDebugRenderJustPressed();
+    }
+
     // private methods
     private void setZoom(float value) {
         zoom = MathUtils.clamp(value, config.getMaxZoomIn(), config.getMaxZoomOut());
@@ -0,0 +1,123 @@
+package com.obstacleavoid.util.debug;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import static com.obstacleavoid.util.Common.DEFAULT_CELL_SIZE;
+
+/**
+ * The same grid as ViewportUtils.drawGrid, white cell lines over twice the world size, red axes and green world
+ * bounds, but kept in a static Mesh. The vertices are only built again when the world size or cell size changes,
+ * drawing it is one draw call with nothing sent to the GPU.
+ */
+public class DebugGrid implements Disposable
+{
+    private static final int VERTEX_FLOATS = 3; // x, y, packed colour
+
+    private static final float GRID_COLOR = Color.WHITE.toFloatBits( );
+    private static final float AXIS_COLOR = Color.RED.toFloatBits( );
+    private static final float BOUNDS_COLOR = Color.GREEN.toFloatBits( );
+
+    // same attribute names as ShapeRenderer's shader
+    private final ShaderProgram shader = ImmediateModeRenderer20.createDefaultShader( false, true, 0 );
+    private Mesh mesh;
+    private float[] vertices = new float[ 0 ];
+    private int vertexCount;
+
+    private int cellSize = DEFAULT_CELL_SIZE;
+    private int builtWidth = -1;
+    private int builtHeight = -1;
+    private int builtCellSize = -1;
+
+    public void setCellSize( int cellSize )
+    {
+        this.cellSize = Math.max( DEFAULT_CELL_SIZE, cellSize );
+    }
+
+    public void draw( Viewport viewport )
+    {
+        if ( viewport == null ) {
+            throw new IllegalArgumentException( "Viewport parameter was not supplied" );
+        }
+
+        int worldWidth = (int) viewport.getWorldWidth( );
+        int worldHeight = (int) viewport.getWorldHeight( );
+        if ( worldWidth != builtWidth || worldHeight != builtHeight || cellSize != builtCellSize ) {
+            build( worldWidth, worldHeight );
+        }
+
+        shader.bind( );
+        shader.setUniformMatrix( "u_projModelView", viewport.getCamera( ).combined );
+        mesh.render( shader, GL20.GL_LINES, 0, vertexCount );
+    }
+
+    @Override
+    public void dispose()
+    {
+        if ( mesh != null ) {
+            mesh.dispose( );
+        }
+        shader.dispose( );
+    }
+
+    // private
+
+    private void build( int worldWidth, int worldHeight )
+    {
+        int doubleWorldWidth = worldWidth * 2;
+        int doubleWorldHeight = worldHeight * 2;
+        int columns = ( 2 * doubleWorldWidth + cellSize - 1 ) / cellSize;
+        int rows = ( 2 * doubleWorldHeight + cellSize - 1 ) / cellSize;
+        int lines = columns + rows + 4;
+
+        if ( vertices.length < lines * 2 * VERTEX_FLOATS ) {
+            vertices = new float[ lines * 2 * VERTEX_FLOATS ];
+            if ( mesh != null ) {
+                mesh.dispose( );
+            }
+            mesh = new Mesh( true, lines * 2, 0,
+                    new VertexAttribute( VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE ),
+                    VertexAttribute.ColorPacked( ) );
+        }
+
+        vertexCount = 0;
+        for ( int x = -doubleWorldWidth; x < doubleWorldWidth; x += cellSize ) {
+            line( x, -doubleWorldHeight, x, doubleWorldHeight, GRID_COLOR );
+        }
+        for ( int y = -doubleWorldHeight; y < doubleWorldHeight; y += cellSize ) {
+            line( -doubleWorldWidth, y, doubleWorldWidth, y, GRID_COLOR );
+        }
+        line( 0, -doubleWorldHeight, 0, doubleWorldHeight, AXIS_COLOR );
+        line( -doubleWorldWidth, 0, doubleWorldWidth, 0, AXIS_COLOR );
+        line( 0, worldHeight, worldWidth, worldHeight, BOUNDS_COLOR );
+        line( worldWidth, 0, worldWidth, worldHeight, BOUNDS_COLOR );
+
+        mesh.setVertices( vertices, 0, vertexCount * VERTEX_FLOATS );
+
+        builtWidth = worldWidth;
+        builtHeight = worldHeight;
+        builtCellSize = cellSize;
+    }
+
+    private void line( float x1, float y1, float x2, float y2, float color )
+    {
+        vertex( x1, y1, color );
+        vertex( x2, y2, color );
+    }
+
+    private void vertex( float x, float y, float color )
+    {
+        int i = vertexCount * VERTEX_FLOATS;
+        vertices[ i ] = x;
+        vertices[ i + 1 ] = y;
+        vertices[ i + 2 ] = color;
+        vertexCount++;
+    }
+}
@@ -0,0 +1,31 @@
+package com.obstacleavoid.util.debug;
+
+// the parts of GameScreen.render that are measured separately
+public enum FramePhase
+{
+    UPDATE( "UPDATE" ),
+    GAMEPLAY_RENDER( "GAMEPLAY" ),
+    UI_RENDER( "UI" ),
+    DEBUG_RENDER( "DEBUG" );
+
+    public static final int COUNT = values( ).length;
+    private static final FramePhase[] VALUES = values( );
+
+    private final String label;
+
+    FramePhase( String label )
+    {
+        this.label = label;
+    }
+
+    public String getLabel()
+    {
+        return label;
+    }
+
+    // values() copies the array on every call
+    public static FramePhase get( int ordinal )
+    {
+        return VALUES[ ordinal ];
+    }
+}
@@ -0,0 +1,159 @@
+package com.obstacleavoid.util.debug;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Logger;
+
+import static com.obstacleavoid.util.Common.LOCALE;
+
+/**
+ * Nanosecond timings of each FramePhase, of the whole frame and of the interval between frames (what the player sees
+ * as stutter), kept in LatencyHistograms for the whole session. Always on, recording allocates nothing.
+ */
+public class FrameProfiler
+{
+    private static final Logger LOG = new Logger( FrameProfiler.class.getName( ), Logger.DEBUG );
+    public static final String CSV_FILE = "frame-profile.csv"; // Gdx.files.local, the assets dir when run from gradle
+    private static final double[] REPORTED_PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[ FramePhase.COUNT ];
+    private final long[] phaseStart = new long[ FramePhase.COUNT ];
+    private final LatencyHistogram frames = new LatencyHistogram( );
+    private final LatencyHistogram intervals = new LatencyHistogram( );
+
+    private long frameStart;
+    private long lastFrameStart;
+
+    public FrameProfiler()
+    {
+        for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+            phases[ p ] = new LatencyHistogram( );
+        }
+    }
+
+    public void beginFrame()
+    {
+        frameStart = System.nanoTime( );
+        if ( lastFrameStart != 0 ) {
+            intervals.record( frameStart - lastFrameStart );
+        }
+        lastFrameStart = frameStart;
+    }
+
+    public void begin( FramePhase phase )
+    {
+        phaseStart[ phase.ordinal( ) ] = System.nanoTime( );
+    }
+
+    public void end( FramePhase phase )
+    {
+        phases[ phase.ordinal( ) ].record( System.nanoTime( ) - phaseStart[ phase.ordinal( ) ] );
+    }
+
+    public void endFrame()
+    {
+        frames.record( System.nanoTime( ) - frameStart );
+    }
+
+    /**
+     * Call when frames stop being profiled for a while (leaving the game screen), so the gap is not counted as a frame
+     * interval.
+     */
+    public void pause()
+    {
+        lastFrameStart = 0;
+    }
+
+    public LatencyHistogram getPhase( FramePhase phase )
+    {
+        return phases[ phase.ordinal( ) ];
+    }
+
+    public LatencyHistogram getFrames()
+    {
+        return frames;
+    }
+
+    public LatencyHistogram getIntervals()
+    {
+        return intervals;
+    }
+
+    public void logSummary()
+    {
+        logSummary( "INTERVAL", intervals );
+        logSummary( "FRAME", frames );
+        for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+            logSummary( FramePhase.get( p ).getLabel( ), phases[ p ] );
+        }
+    }
+
+    /**
+     * One row per histogram: name, count, min, mean, the reported percentiles and max, all in milliseconds.
+     */
+    public void writeCsv( FileHandle file )
+    {
+        if ( frames.getTotalCount( ) == 0 ) {
+            return;
+        }
+        Writer writer = file.writer( false, "UTF-8" );
+        try {
+            writer.write( "name,count,min_ms,mean_ms" );
+            for ( double percentile : REPORTED_PERCENTILES ) {
+                writer.write( String.format( LOCALE, ",p%s_ms", formatPercentile( percentile ) ) );
+            }
+            writer.write( ",max_ms\n" );
+
+            writeRow( writer, "INTERVAL", intervals );
+            writeRow( writer, "FRAME", frames );
+            for ( int p = 0; p < FramePhase.COUNT; p++ ) {
+                writeRow( writer, FramePhase.get( p ).getLabel( ), phases[ p ] );
+            }
+            LOG.info( "Frame profile written to " + file.path( ) );
+        } catch ( IOException e ) {
+            LOG.error( "Could not write frame profile to " + file.path( ), e );
+        } finally {
+            try {
+                writer.close( );
+            } catch ( IOException ignored ) {
+            }
+        }
+    }
+
+    // private
+
+    private static void writeRow( Writer writer, String name, LatencyHistogram histogram ) throws IOException
+    {
+        writer.write( String.format( LOCALE, "%s,%d,%.3f,%.3f", name, histogram.getTotalCount( ),
+                millis( histogram.getMin( ) ), histogram.getMean( ) / NANOS_PER_MILLI ) );
+        for ( double percentile : REPORTED_PERCENTILES ) {
+            writer.write( String.format( LOCALE, ",%.3f", millis( histogram.getValueAtPercentile( percentile ) ) ) );
+        }
+        writer.write( String.format( LOCALE, ",%.3f\n", millis( histogram.getMax( ) ) ) );
+    }
+
+    private static void logSummary( String name, LatencyHistogram histogram )
+    {
+        LOG.info( String.format( LOCALE, "%s n=%d p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms", name,
+                histogram.getTotalCount( ), millis( histogram.getValueAtPercentile( 50 ) ),
+                millis( histogram.getValueAtPercentile( 99 ) ), millis( histogram.getValueAtPercentile( 99.9 ) ),
+                millis( histogram.getMax( ) ) ) );
+    }
+
+    private static double millis( long nanos )
+    {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static String formatPercentile( double percentile )
+    {
+        // 99.9 -> "99_9", 50 -> "50"
+        String text = percentile == Math.rint( percentile )
+                ? String.valueOf( (long) percentile )
+                : String.valueOf( percentile );
+        return text.replace( '.', '_' );
+    }
+}
@@ -0,0 +1,106 @@
+package com.obstacleavoid.util.debug;
+
+import java.util.Arrays;
+
+/**
+ * Fixed bucket histogram of nanosecond durations, laid out like HdrHistogram: exact below 128ns, then every power of two
+ * is split into 64 linear buckets, so any value is held to within 1.6%. Recording is a couple of shifts and an array
+ * increment, nothing is allocated after construction. Values above MAX_VALUE (about 18 minutes) are clamped.
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 40;
+    public static final long MAX_VALUE = ( 1L << MAX_VALUE_BITS ) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ( MAX_VALUE_BITS - SUB_BUCKET_BITS ) * SUB_BUCKET_HALF;
+
+    private final long[] counts = new long[ BUCKET_COUNT ];
+    private long totalCount;
+    private long totalNanos;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record( long nanos )
+    {
+        long value = Math.max( 0L, Math.min( nanos, MAX_VALUE ) );
+        counts[ index( value ) ]++;
+        totalCount++;
+        totalNanos += value;
+        min = Math.min( min, value );
+        max = Math.max( max, value );
+    }
+
+    public void reset()
+    {
+        Arrays.fill( counts, 0L );
+        totalCount = 0;
+        totalNanos = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * @param percentile 0 to 100, e.g. 99.9
+     * @return the highest value in the bucket holding the percentile, so never under the real value. 0 when empty.
+     */
+    public long getValueAtPercentile( double percentile )
+    {
+        if ( totalCount == 0 ) {
+            return 0;
+        }
+        long target = Math.max( 1L, (long) Math.ceil( percentile / 100.0 * totalCount ) );
+        long seen = 0;
+        for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+            seen += counts[ i ];
+            if ( seen >= target ) {
+                return Math.min( max, highestValueIn( i ) );
+            }
+        }
+        return max;
+    }
+
+    public long getTotalCount()
+    {
+        return totalCount;
+    }
+
+    public long getMin()
+    {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax()
+    {
+        return max;
+    }
+
+    public double getMean()
+    {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    // private
+
+    private static int index( long value )
+    {
+        if ( value < SUB_BUCKET_COUNT ) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros( value );
+        int shift = highestBit - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) ( value >>> shift ); // SUB_BUCKET_HALF to SUB_BUCKET_COUNT - 1
+        return SUB_BUCKET_COUNT + ( shift - 1 ) * SUB_BUCKET_HALF + ( subBucket - SUB_BUCKET_HALF );
+    }
+
+    private static long highestValueIn( int index )
+    {
+        if ( index < SUB_BUCKET_COUNT ) {
+            return index;
+        }
+        int shift = ( index - SUB_BUCKET_COUNT ) / SUB_BUCKET_HALF + 1;
+        long subBucket = ( index - SUB_BUCKET_COUNT ) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ( ( subBucket + 1 ) << shift ) - 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.obstacleavoid.util.debug;
+
+/**
+ * Fallback for platforms without per thread counters (Android): samples used heap, so a GC during a phase hides its
+ * allocations and other threads' allocations are included.
+ */
+public class RuntimeAllocationSampler implements AllocationSampler
+{
+    private final Runtime runtime = Runtime.getRuntime( );
+
+    @Override
+    public long getAllocatedBytes()
+    {
+        return runtime.totalMemory( ) - runtime.freeMemory( );
+    }
+
+    @Override
+    public boolean isExact()
+    {
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.obstacleavoid.util.debug;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Logger;
+import com.obstacleavoid.simulation.ObstacleStore;
+
+import static com.obstacleavoid.util.Common.LOCALE;
+
+/**
+ * Logs what should stay flat from one bot session to the next, heap after the session, stage actors, loaded assets
+ * and obstacle store grows, next to the first session's values. Anything that keeps climbing over an
+ * hours long soak is a leak.
+ */
+public class SoakMonitor
+{
+    private static final Logger LOG = new Logger( SoakMonitor.class.getName( ), Logger.DEBUG );
+    private static final long MB = 1024 * 1024;
+
+    private final Runtime runtime = Runtime.getRuntime( );
+    private final long startNanos = System.nanoTime( );
+
+    private int sessions;
+    private long totalTicks;
+    private long firstHeap;
+    private int firstStageActors;
+    private int firstAssets;
+    private int firstStoreGrows;
+
+    public SoakMonitor(){}
+
+    public void sessionEnded( int ticks, int stageActors, AssetManager assetManager, ObstacleStore store )
+    {
+        sessions++;
+        totalTicks += ticks;
+
+        long heap = runtime.totalMemory( ) - runtime.freeMemory( );
+        int assets = assetManager.getLoadedAssets( );
+
+        if ( sessions == 1 ) {
+            firstHeap = heap;
+            firstStageActors = stageActors;
+            firstAssets = assets;
+            firstStoreGrows = store.getGrowCount( );
+        }
+
+        float minutes = ( System.nanoTime( ) - startNanos ) / 60e9f;
+        LOG.info( String.format( LOCALE,
+                "soak session %d after %.1f min, %d ticks: heap %dMB (first %dMB), stage actors %d (first %d), " +
+                        "assets %d (first %d), store peak %d grows %d (first %d)",
+                sessions, minutes, totalTicks, heap / MB, firstHeap / MB, stageActors, firstStageActors, assets,
+                firstAssets, store.getPeakSize( ), store.getGrowCount( ), firstStoreGrows ) );
+    }
+
+    public int getSessions()
+    {
+        return sessions;
+    }
+}
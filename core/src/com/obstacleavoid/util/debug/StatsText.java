@@ -0,0 +1,49 @@
+package com.obstacleavoid.util.debug;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.obstacleavoid.screen.game.HudText;
+
+/**
+ * A column of "LABEL value" lines for the debug overlay, each one a HudText so unchanged values cost nothing.
+ */
+public class StatsText
+{
+    private static final float LINE_SPACING = 8f;
+
+    private final HudText[] lines;
+
+    public StatsText( BitmapFont font, String... labels )
+    {
+        lines = new HudText[ labels.length ];
+        for ( int i = 0; i < labels.length; i++ ) {
+            lines[ i ] = new HudText( font, labels[ i ] );
+            lines[ i ].setValue( 0 );
+        }
+    }
+
+    public void setValue( int line, int value )
+    {
+        lines[ line ].setValue( value );
+    }
+
+    // first line at the top, y is the bottom of the last line
+    public void draw( Batch batch, float x, float y )
+    {
+        float lineY = y;
+        for ( int i = lines.length - 1; i >= 0; i-- ) {
+            lineY += lines[ i ].getHeight( );
+            lines[ i ].draw( batch, x, lineY );
+            lineY += LINE_SPACING;
+        }
+    }
+
+    public float getHeight()
+    {
+        float height = 0;
+        for ( HudText line : lines ) {
+            height += line.getHeight( ) + LINE_SPACING;
+        }
+        return height;
+    }
+}
@@ -0,0 +1,56 @@
+package com.obstacleavoid.util.debug;
+
+import com.badlogic.gdx.utils.Logger;
+import com.obstacleavoid.simulation.ObstacleStore;
+
+import static com.obstacleavoid.util.Common.LOCALE;
+
+/**
+ * Logs a line a second during a stress test: frame time, spawn rate, live obstacles, the store's peak and grows, stage
+ * actors and the draw calls the obstacles took.
+ * The first time the average frame goes over budget it also logs how many obstacles it took.
+ */
+public class StressReport
+{
+    private static final Logger LOG = new Logger( StressReport.class.getName( ), Logger.DEBUG );
+    private static final float REPORT_EVERY = 1f;
+    private static final float FRAME_BUDGET = 1f / 30f;
+
+    private float elapsed;
+    private float windowTime;
+    private float windowMax;
+    private int windowFrames;
+    private boolean overBudget;
+
+    public StressReport(){}
+
+    public void frame( float delta, float spawnEvery, ObstacleStore store, int stageActors, int obstacleDrawCalls )
+    {
+        int obstacles = store.size( );
+        elapsed += delta;
+        windowTime += delta;
+        windowMax = Math.max( windowMax, delta );
+        windowFrames++;
+
+        if ( windowTime < REPORT_EVERY ) {
+            return;
+        }
+
+        float average = windowTime / windowFrames;
+        LOG.info( String.format( LOCALE,
+                "stress %.0fs: frame avg %.2fms max %.2fms (%d fps), spawning %.0f/s, obstacles %d (store peak %d, " +
+                        "grows %d), stage actors %d, obstacle draw calls %d",
+                elapsed, average * 1000f, windowMax * 1000f, windowFrames, 1f / spawnEvery, obstacles,
+                store.getPeakSize( ), store.getGrowCount( ), stageActors, obstacleDrawCalls ) );
+
+        if ( !overBudget && average > FRAME_BUDGET ) {
+            overBudget = true;
+            LOG.info( String.format( LOCALE, "stress: frames over the %.1fms budget from %d obstacles",
+                    FRAME_BUDGET * 1000f, obstacles ) );
+        }
+
+        windowTime = 0f;
+        windowMax = 0f;
+        windowFrames = 0;
+    }
+}
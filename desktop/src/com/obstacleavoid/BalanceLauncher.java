@@ -0,0 +1,236 @@
+package com.obstacleavoid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.GameDifficulty;
+import com.obstacleavoid.simulation.DodgeBot;
+import com.obstacleavoid.simulation.GameSimulation;
+import com.obstacleavoid.simulation.InputState;
+import com.obstacleavoid.simulation.SpatialHashBroadphase;
+
+// Plays thousands of headless sessions with DodgeBot on every core and prints how long it survives and what it
+// scores, for each GameDifficulty and for any candidate speed / spawn interval given.
+//   --sessions=N         sessions per candidate (default 5000)
+//   --speeds=6,8.5       candidate obstacle speeds, world units per second
+//   --spawn=0.25,0.2     candidate spawn intervals in seconds, crossed with the speeds, or with every
+//                        GameDifficulty's speed if no --speeds are given
+//   --threads=N          worker threads (default one per core)
+//   --max-seconds=S      a session still going after S seconds counts as survived (default 300)
+//   --seed=N             first session seed, sessions use seed, seed + 1, ... so runs are repeatable
+public class BalanceLauncher {
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private static int sessions = 5000;
+	private static int threads = Runtime.getRuntime().availableProcessors();
+	private static float maxSeconds = 300f;
+	private static long seed = 1L;
+	private static float[] speeds = new float[0];
+	private static float[] spawnIntervals = {GameConfig.OBSTACLES_SPAWN_EVERY};
+	private static boolean spawnGiven;
+
+	public static void main (String[] arg) throws InterruptedException, ExecutionException {
+		for (String option : arg) {
+			String value = option.substring(option.indexOf('=') + 1);
+			if (option.startsWith("--sessions=")) {
+				sessions = Integer.parseInt(value);
+				if (sessions < 1) {
+					System.out.println("Need at least one session, got " + option);
+					return;
+				}
+			} else if (option.startsWith("--speeds=")) {
+				speeds = parseFloats(value);
+			} else if (option.startsWith("--spawn=")) {
+				spawnIntervals = parseFloats(value);
+				spawnGiven = true;
+				for (float spawnEvery : spawnIntervals) {
+					if (spawnEvery <= 0) {
+						System.out.println("Spawn intervals must be above 0, got " + option);
+						return;
+					}
+				}
+			} else if (option.startsWith("--threads=")) {
+				threads = Integer.parseInt(value);
+				if (threads < 1) {
+					System.out.println("Need at least one thread, got " + option);
+					return;
+				}
+			} else if (option.startsWith("--max-seconds=")) {
+				maxSeconds = Float.parseFloat(value);
+			} else if (option.startsWith("--seed=")) {
+				seed = Long.parseLong(value);
+			} else {
+				System.out.println("Unknown option " + option);
+				return;
+			}
+		}
+
+		List<Candidate> candidates = new ArrayList<Candidate>();
+		for (GameDifficulty difficulty : GameDifficulty.values()) {
+			candidates.add(new Candidate(difficulty.name(), difficulty.getObjectSpeed(), GameConfig.OBSTACLES_SPAWN_EVERY));
+		}
+		for (float speed : speeds) {
+			for (float spawnEvery : spawnIntervals) {
+				candidates.add(new Candidate(String.format(Locale.US, "%.2f/%.3fs", speed, spawnEvery), speed, spawnEvery));
+			}
+		}
+		if (speeds.length == 0 && spawnGiven) {
+			for (GameDifficulty difficulty : GameDifficulty.values()) {
+				for (float spawnEvery : spawnIntervals) {
+					candidates.add(new Candidate(String.format(Locale.US, "%s/%.3fs", difficulty.name(), spawnEvery),
+							difficulty.getObjectSpeed(), spawnEvery));
+				}
+			}
+		}
+
+		int maxTicks = (int) (maxSeconds * GameConfig.SIMULATION_TICKS_PER_SECOND);
+		System.out.println(String.format(Locale.US, "%d sessions x %d candidates on %d threads, max %.0fs each",
+				sessions, candidates.size(), threads, maxSeconds));
+		System.out.println(String.format(Locale.US, "%-16s %8s %8s %8s %8s %9s %8s %8s %8s",
+				"candidate", "surv p10", "p50", "p90", "mean", "survived", "score p10", "p50", "p90"));
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		long start = System.nanoTime();
+		long totalTicks = 0;
+		try {
+			for (Candidate candidate : candidates) {
+				Result result = run(pool, candidate, maxTicks);
+				totalTicks += result.ticks;
+				print(candidate, result, maxTicks);
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println(String.format(Locale.US, "%d ticks in %.1fs, %.0f ticks/s", totalTicks, seconds,
+				totalTicks / seconds));
+	}
+
+	// every chunk is independent, its own simulations, bot and input, results are only merged here
+	private static Result run (ExecutorService pool, final Candidate candidate, final int maxTicks)
+			throws InterruptedException, ExecutionException {
+		int chunks = Math.max(1, Math.min(sessions, threads * CHUNKS_PER_THREAD));
+		List<Future<Result>> futures = new ArrayList<Future<Result>>(chunks);
+
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			final int first = (int) ((long) sessions * chunk / chunks);
+			final int end = (int) ((long) sessions * (chunk + 1) / chunks);
+			futures.add(pool.submit(new Callable<Result>() {
+				@Override
+				public Result call () {
+					return runSessions(candidate, first, end, maxTicks);
+				}
+			}));
+		}
+
+		Result merged = new Result(sessions);
+		for (Future<Result> future : futures) {
+			merged.add(future.get());
+		}
+		return merged;
+	}
+
+	private static Result runSessions (Candidate candidate, int first, int end, int maxTicks) {
+		Result result = new Result(end - first);
+		DodgeBot bot = new DodgeBot();
+		InputState input = new InputState();
+		float stepSeconds = 1f / GameConfig.SIMULATION_TICKS_PER_SECOND;
+
+		for (int session = first; session < end; session++) {
+			GameSimulation simulation = new GameSimulation(candidate.speed, candidate.spawnEvery, seed + session,
+					new SpatialHashBroadphase());
+			int tick = 0;
+			while (!simulation.isGameOver() && tick < maxTicks) {
+				bot.update(simulation, input);
+				simulation.step(stepSeconds, input);
+				tick++;
+			}
+			result.add(tick, simulation.getScore());
+		}
+		return result;
+	}
+
+	private static void print (Candidate candidate, Result result, int maxTicks) {
+		int[] ticks = Arrays.copyOf(result.survivalTicks, result.count);
+		int[] scores = Arrays.copyOf(result.scores, result.count);
+		Arrays.sort(ticks);
+		Arrays.sort(scores);
+
+		long sum = 0;
+		int survived = 0;
+		for (int tick : ticks) {
+			sum += tick;
+			if (tick >= maxTicks) {
+				survived++;
+			}
+		}
+		float tickSeconds = 1f / GameConfig.SIMULATION_TICKS_PER_SECOND;
+
+		System.out.println(String.format(Locale.US, "%-16s %7.1fs %7.1fs %7.1fs %7.1fs %8.1f%% %9d %8d %8d",
+				candidate.name, percentile(ticks, 10) * tickSeconds, percentile(ticks, 50) * tickSeconds,
+				percentile(ticks, 90) * tickSeconds, sum * tickSeconds / ticks.length, 100f * survived / ticks.length,
+				percentile(scores, 10), percentile(scores, 50), percentile(scores, 90)));
+	}
+
+	// nearest rank
+	private static int percentile (int[] sorted, int percent) {
+		int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	private static float[] parseFloats (String list) {
+		String[] parts = list.split(",");
+		float[] values = new float[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			values[i] = Float.parseFloat(parts[i].trim());
+		}
+		return values;
+	}
+
+	private static final class Candidate {
+		final String name;
+		final float speed;
+		final float spawnEvery;
+
+		Candidate (String name, float speed, float spawnEvery) {
+			this.name = name;
+			this.speed = speed;
+			this.spawnEvery = spawnEvery;
+		}
+	}
+
+	private static final class Result {
+		int[] survivalTicks;
+		int[] scores;
+		int count;
+		long ticks;
+
+		Result (int capacity) {
+			survivalTicks = new int[capacity];
+			scores = new int[capacity];
+		}
+
+		void add (int survivalTick, int score) {
+			survivalTicks[count] = survivalTick;
+			scores[count] = score;
+			count++;
+			ticks += survivalTick;
+		}
+
+		void add (Result other) {
+			System.arraycopy(other.survivalTicks, 0, survivalTicks, count, other.count);
+			System.arraycopy(other.scores, 0, scores, count, other.count);
+			count += other.count;
+			ticks += other.ticks;
+		}
+	}
+}
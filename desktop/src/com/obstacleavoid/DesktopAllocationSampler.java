@@ -0,0 +1,37 @@
+package com.obstacleavoid;
+
+import java.lang.management.ManagementFactory;
+
+import com.obstacleavoid.util.debug.AllocationSampler;
+import com.obstacleavoid.util.debug.RuntimeAllocationSampler;
+
+// exact bytes allocated by the render thread, from the HotSpot ThreadMXBean
+public class DesktopAllocationSampler implements AllocationSampler {
+	private final com.sun.management.ThreadMXBean threadBean;
+	private final AllocationSampler fallback = new RuntimeAllocationSampler();
+
+	public DesktopAllocationSampler() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+			threadBean = (com.sun.management.ThreadMXBean) bean;
+			threadBean.setThreadAllocatedMemoryEnabled(true);
+		} else {
+			threadBean = null;
+		}
+	}
+
+	@Override
+	public long getAllocatedBytes() {
+		if (threadBean == null) {
+			return fallback.getAllocatedBytes();
+		}
+		// called from the render thread, so this is the thread being measured
+		return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	@Override
+	public boolean isExact() {
+		return threadBean != null;
+	}
+}
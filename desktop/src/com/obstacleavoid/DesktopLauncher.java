@@ -1,19 +1,50 @@
 package com.obstacleavoid;
 
+import java.io.File;
+
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.config.LaunchOptions;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
+//   --bot            DodgeBot plays game after game with no frame cap, for soak testing
+//   --stress         obstacles ramp up into the thousands, frame time and counts are logged every second
+//   --replay=FILE    watch a recorded .oar replay
+//   --leaderboard=URL  also submit scores to a remote leaderboard, see LeaderboardServer for a local one
 public class DesktopLauncher {
+	private static final String BOT_OPTION = "--bot";
+	private static final String STRESS_OPTION = "--stress";
+	private static final String REPLAY_OPTION = "--replay=";
+	private static final String LEADERBOARD_OPTION = "--leaderboard=";
+
 	public static void main (String[] arg) {
+		LaunchOptions options = new LaunchOptions();
+		for (String option : arg) {
+			if (option.equals(BOT_OPTION)) {
+				options.setBot(true);
+			} else if (option.equals(STRESS_OPTION)) {
+				options.setStress(true);
+			} else if (option.startsWith(REPLAY_OPTION)) {
+				options.setReplayPath(new File(option.substring(REPLAY_OPTION.length())).getAbsolutePath());
+			} else if (option.startsWith(LEADERBOARD_OPTION)) {
+				options.setLeaderboardUrl(option.substring(LEADERBOARD_OPTION.length()));
+			}
+		}
+
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
-		config.setForegroundFPS(60);
+		if (options.isBot() || options.isStress()) {
+			// as many frames as it can, so soaks run faster than real time and stress frame times are not hidden
+			config.setForegroundFPS(0);
+			config.useVsync(false);
+		} else {
+			config.setForegroundFPS(60);
+		}
 		config.setTitle("obstacle-avoid");
 		int width = (int) GameConfig.WIDTH;
 		int height =  (int) GameConfig.HEIGHT;
 		config.setWindowedMode(width, height);
 		config.setWindowPosition(0, 30);
-		new Lwjgl3Application(new ObstacleAvoidGame(), config);
+		new Lwjgl3Application(new ObstacleAvoidGame(new DesktopAllocationSampler(), options), config);
 	}
 }
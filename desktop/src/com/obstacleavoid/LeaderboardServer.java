@@ -0,0 +1,144 @@
+package com.obstacleavoid;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// Stand-in for the remote leaderboard, to point the game's ScoreSubmitter at when trying it out:
+//   gradlew :desktop:leaderboardServer -PleaderboardServer="--fail-rate=0.5"
+//   gradlew :desktop:run --args="--leaderboard=http://localhost:8787/scores"
+// POST /scores takes a batch as the game sends it and prints it, GET /scores prints what has been accepted.
+//   --port=N           default 8787
+//   --fail-rate=F      answer this fraction of batches with 503, to watch the retries and backoff
+//   --delay-ms=N       wait this long before answering, as a slow network would
+public class LeaderboardServer {
+	private static final String PATH = "/scores";
+
+	private static int port = 8787;
+	private static float failRate;
+	private static long delayMillis;
+
+	private static final Random random = new Random();
+	// seed + time, a batch sent again after a lost response is not counted twice
+	private static final Set<String> accepted = new HashSet<String>();
+	private static int batches;
+	private static int duplicates;
+
+	public static void main (String[] arg) throws IOException {
+		for (String option : arg) {
+			String value = option.substring(option.indexOf('=') + 1);
+			if (option.startsWith("--port=")) {
+				port = Integer.parseInt(value);
+			} else if (option.startsWith("--fail-rate=")) {
+				failRate = Float.parseFloat(value);
+			} else if (option.startsWith("--delay-ms=")) {
+				delayMillis = Long.parseLong(value);
+			} else {
+				System.out.println("Unknown option " + option);
+				return;
+			}
+		}
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.createContext(PATH, LeaderboardServer::handle);
+		server.setExecutor(Executors.newSingleThreadExecutor());
+		server.start();
+		System.out.println(String.format(Locale.US, "Leaderboard stand-in on http://localhost:%d%s, fail rate %.2f, "
+				+ "delay %d ms", port, PATH, failRate, delayMillis));
+	}
+
+	private static void handle (HttpExchange exchange) throws IOException {
+		try {
+			if (exchange.getRequestMethod().equals("GET")) {
+				respond(exchange, 200, String.format(Locale.US, "{\"accepted\":%d,\"batches\":%d,\"duplicates\":%d}",
+						accepted.size(), batches, duplicates));
+				return;
+			}
+			if (!exchange.getRequestMethod().equals("POST")) {
+				respond(exchange, 405, "");
+				return;
+			}
+
+			byte[] body = readAll(exchange.getRequestBody());
+			if (delayMillis > 0) {
+				Thread.sleep(delayMillis);
+			}
+			if (random.nextFloat() < failRate) {
+				System.out.println("Batch of " + body.length + " bytes failed on purpose");
+				respond(exchange, 503, "");
+				return;
+			}
+
+			String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+			int compressed = body.length;
+			if ("gzip".equalsIgnoreCase(encoding)) {
+				body = readAll(new GZIPInputStream(new ByteArrayInputStream(body)));
+			}
+
+			JsonValue scores = new JsonReader().parse(new String(body, StandardCharsets.UTF_8)).get("scores");
+			if (scores == null) {
+				respond(exchange, 400, "{\"error\":\"no scores\"}");
+				return;
+			}
+
+			int added = 0;
+			for (JsonValue score = scores.child; score != null; score = score.next) {
+				if (accepted.add(score.getLong("seed") + "@" + score.getLong("time"))) {
+					added++;
+					System.out.println(String.format(Locale.US, "  %-6s %6d  %7.1fs  seed %d",
+							score.getString("difficulty"), score.getInt("score"),
+							score.getInt("durationMillis") / 1000f, score.getLong("seed")));
+				} else {
+					duplicates++;
+				}
+			}
+			batches++;
+			System.out.println(String.format(Locale.US, "Batch %d: %d scores (%d new), %d bytes gzipped, %d bytes json",
+					batches, scores.size, added, compressed, body.length));
+			respond(exchange, 200, "{\"accepted\":" + added + "}");
+		} catch (SerializationException e) {
+			respond(exchange, 400, "{\"error\":\"bad json\"}");
+		} catch (InterruptedException e) {
+			respond(exchange, 503, "");
+		}
+	}
+
+	private static byte[] readAll (InputStream in) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			bytes.write(buffer, 0, read);
+		}
+		in.close();
+		return bytes.toByteArray();
+	}
+
+	private static void respond (HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+		exchange.close();
+	}
+}
@@ -0,0 +1,100 @@
+package com.obstacleavoid;
+
+import java.util.Locale;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.obstacleavoid.config.GameConfig;
+import com.obstacleavoid.replay.Replay;
+import com.obstacleavoid.replay.ReplayArchive;
+import com.obstacleavoid.replay.ReplayArchiveWriter;
+import com.obstacleavoid.replay.ReplayRunner;
+import com.obstacleavoid.simulation.GameSimulation;
+
+// Replays recorded sessions headless at full speed, no window. Paths are replay files or directories of them.
+//   --archive     also writes each replay as a seekable archive next to it
+//   --seek=TICK   for archives, restores the state at TICK instead of replaying from the start
+public class ReplayLauncher {
+	private static final String ARCHIVE_OPTION = "--archive";
+	private static final String SEEK_OPTION = "--seek=";
+
+	private static boolean archive;
+	private static int seekTick = -1;
+
+	public static void main (String[] arg) {
+		boolean anyPath = false;
+		for (String option : arg) {
+			if (option.equals(ARCHIVE_OPTION)) {
+				archive = true;
+			} else if (option.startsWith(SEEK_OPTION)) {
+				seekTick = Integer.parseInt(option.substring(SEEK_OPTION.length()));
+			}
+		}
+
+		for (String path : arg) {
+			if (path.startsWith("--")) {
+				continue;
+			}
+			anyPath = true;
+			FileHandle file = new FileHandle(path);
+			if (file.isDirectory()) {
+				for (FileHandle child : file.list()) {
+					run(child);
+				}
+			} else {
+				run(file);
+			}
+		}
+
+		if (!anyPath) {
+			System.out.println("Usage: ReplayLauncher [" + ARCHIVE_OPTION + "] [" + SEEK_OPTION
+					+ "TICK] <replay file or directory>...");
+		}
+	}
+
+	private static void run (FileHandle file) {
+		if (file.extension().equals(Replay.EXTENSION)) {
+			runReplay(file);
+		} else if (file.extension().equals(ReplayArchive.EXTENSION)) {
+			seekArchive(file);
+		}
+	}
+
+	private static void runReplay (FileHandle file) {
+		Replay replay = Replay.read(file);
+		ReplayRunner runner = new ReplayRunner(replay);
+		GameSimulation simulation;
+
+		if (archive) {
+			FileHandle archiveFile = file.sibling(file.nameWithoutExtension() + "." + ReplayArchive.EXTENSION);
+			ReplayArchiveWriter writer = new ReplayArchiveWriter(archiveFile, replay.getSeed(), replay.getDifficulty(),
+					replay.getTicksPerSecond(), GameConfig.REPLAY_KEYFRAME_INTERVAL);
+			simulation = runner.run(writer);
+			writer.close();
+			System.out.println("Archive written to " + archiveFile.path() + " (" + archiveFile.length() + " bytes)");
+		} else {
+			simulation = runner.run();
+		}
+
+		double millis = runner.getNanos() / 1e6;
+		System.out.println(String.format(Locale.US,
+				"%s seed=%d %s ticks=%d/%d hits=%d lives=%d score=%d gameOver=%b %.2fms (%.0f ticks/s)",
+				file.name(), replay.getSeed(), replay.getDifficulty(), runner.getTicks(), replay.getTickCount(),
+				runner.getHits(), simulation.getLives(), simulation.getScore(), simulation.isGameOver(), millis,
+				runner.getTicks() / Math.max(millis / 1000.0, 1e-9)));
+	}
+
+	private static void seekArchive (FileHandle file) {
+		ReplayArchive replayArchive = ReplayArchive.open(file);
+		int tick = seekTick < 0 ? replayArchive.getTickCount() : Math.min(seekTick, replayArchive.getTickCount());
+
+		long start = System.nanoTime();
+		GameSimulation simulation = replayArchive.seek(tick);
+		double millis = (System.nanoTime() - start) / 1e6;
+
+		System.out.println(String.format(Locale.US,
+				"%s seed=%d %s tick=%d/%d keyframes=%d simulated=%d lives=%d score=%d obstacles=%d %.2fms",
+				file.name(), replayArchive.getSeed(), replayArchive.getDifficulty(), tick, replayArchive.getTickCount(),
+				replayArchive.getKeyframeCount(), replayArchive.getLastSeekSteps(), simulation.getLives(),
+				simulation.getScore(), simulation.getObstacles().size(), millis));
+	}
+}